@@ -0,0 +1,25 @@
+package com.example.easython.config;
+
+import com.example.easython.domain.AllergenDictionary;
+import com.example.easython.domain.Menu;
+import com.example.easython.domain.User;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴/사용자 저장 시 알레르기 유발성분 비트마스크 동기화
+ */
+@Component
+public class AllergenMaskEventListener extends AbstractMongoEventListener<Object> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof Menu menu) {
+            menu.setAllergenMask(AllergenDictionary.encode(menu.getAllergyIngredients()));
+        } else if (source instanceof User user) {
+            user.setAllergenMask(AllergenDictionary.encode(user.getAllergyIngredients()));
+        }
+    }
+}
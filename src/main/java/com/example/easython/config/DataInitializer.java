@@ -6,6 +6,7 @@ import com.example.easython.domain.User;
 import com.example.easython.repository.MenuRepository;
 import com.example.easython.repository.TableRepository;
 import com.example.easython.repository.UserRepository;
+import com.example.easython.service.MenuRatingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -28,6 +29,7 @@ public class DataInitializer implements CommandLineRunner {
     private final TableRepository tableRepository;
     private final MenuRepository menuRepository;
     private final UserRepository userRepository;
+    private final MenuRatingService menuRatingService;
 
     @Override
     public void run(String... args) {
@@ -45,6 +47,11 @@ public class DataInitializer implements CommandLineRunner {
             log.info("초기 사용자 데이터 생성 중...");
             initializeUsers();
         }
+
+        // 평점 요약이 없는 메뉴가 있을 때만 menu_ratings 기준으로 재구성 (이후에는 평가 시 $inc로 유지)
+        if (menuRatingService.hasMissingRatingSummaries()) {
+            menuRatingService.rebuildRatingSummaries();
+        }
     }
 
     private void initializeTables() {
@@ -0,0 +1,29 @@
+package com.example.easython.config;
+
+import com.example.easython.domain.Menu;
+import com.example.easython.service.MenuCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 저장/삭제 시 메뉴 카탈로그 스냅샷 재구성
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuCatalogEventListener extends AbstractMongoEventListener<Menu> {
+
+    private final MenuCatalog menuCatalog;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Menu> event) {
+        menuCatalog.refresh(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Menu> event) {
+        menuCatalog.refresh();
+    }
+}
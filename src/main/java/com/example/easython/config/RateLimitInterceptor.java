@@ -0,0 +1,65 @@
+package com.example.easython.config;
+
+import com.example.easython.dto.ApiResponse;
+import com.example.easython.service.RateLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 사용자별 요청 제한 (경로의 userId 기준, POST 요청만)
+ *
+ * 제한에 걸리면 컨트롤러를 호출하지 않고 미리 직렬화한 429 응답과 Retry-After 헤더를 바로 쓴다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimiter.Endpoint endpoint;
+    private final byte[] rejectedBody;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, RateLimiter.Endpoint endpoint, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.endpoint = endpoint;
+        try {
+            this.rejectedBody = objectMapper.writeValueAsBytes(
+                    ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String userId = pathVariables != null ? pathVariables.get("userId") : null;
+        if (userId == null) {
+            return true;
+        }
+
+        long retryAfterSeconds = rateLimiter.tryAcquire(endpoint, userId);
+        if (retryAfterSeconds == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+        return false;
+    }
+}
@@ -1,14 +1,22 @@
 package com.example.easython.config;
 
+import com.example.easython.service.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -18,6 +26,16 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // AI 채팅 (LLM 호출)
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, RateLimiter.Endpoint.CHAT, objectMapper))
+                .addPathPatterns("/api/chat/user/*");
+        // 주문 생성, 결제
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, RateLimiter.Endpoint.ORDER, objectMapper))
+                .addPathPatterns("/api/orders/*", "/api/orders/user/*/table/*/from-cart", "/api/payments/user/*");
+    }
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
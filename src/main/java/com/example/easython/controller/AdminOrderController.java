@@ -0,0 +1,55 @@
+package com.example.easython.controller;
+
+import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.CursorPageDto;
+import com.example.easython.dto.OrderSearchRequestDto;
+import com.example.easython.dto.OrderSummaryDto;
+import com.example.easython.service.OrderSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+public class AdminOrderController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final OrderSearchService orderSearchService;
+
+    /**
+     * 주문 검색 (기간 from~to, 상태, 가게, 테이블 조건 / cursor는 이전 응답의 nextCursor)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageDto<OrderSummaryDto>>> searchOrders(
+            @ModelAttribute OrderSearchRequestDto condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPageDto<OrderSummaryDto> page = orderSearchService.search(condition, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("주문 검색 성공", page));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 검색 조건에 맞는 주문 전체 내보내기 (한 줄에 주문 하나씩 NDJSON 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportOrders(@ModelAttribute OrderSearchRequestDto condition) {
+        try {
+            orderSearchService.validate(condition);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+        StreamingResponseBody body = out -> orderSearchService.export(condition, out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
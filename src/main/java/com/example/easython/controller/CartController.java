@@ -2,6 +2,7 @@ package com.example.easython.controller;
 
 import com.example.easython.dto.ApiResponse;
 import com.example.easython.dto.CartDto;
+import com.example.easython.dto.CartItemQuantityRequestDto;
 import com.example.easython.dto.CartRequestDto;
 import com.example.easython.service.CartService;
 import jakarta.validation.Valid;
@@ -49,6 +50,41 @@ public class CartController {
         }
     }
 
+    /**
+     * 장바구니 항목 수량 변경
+     */
+    @PutMapping("/user/{userId}/table/{tableId}/items/{lineId}")
+    public ResponseEntity<ApiResponse<CartDto>> updateItemQuantity(
+            @PathVariable String userId,
+            @PathVariable String tableId,
+            @PathVariable String lineId,
+            @Valid @RequestBody CartItemQuantityRequestDto request) {
+        try {
+            CartDto cart = cartService.updateItemQuantity(userId, tableId, lineId, request.getQuantity());
+            return ResponseEntity.ok(ApiResponse.success("장바구니 수량 변경 성공", cart));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 장바구니 항목 삭제
+     */
+    @DeleteMapping("/user/{userId}/table/{tableId}/items/{lineId}")
+    public ResponseEntity<ApiResponse<CartDto>> removeItem(
+            @PathVariable String userId,
+            @PathVariable String tableId,
+            @PathVariable String lineId) {
+        try {
+            CartDto cart = cartService.removeItem(userId, tableId, lineId);
+            return ResponseEntity.ok(ApiResponse.success("장바구니 항목 삭제 성공", cart));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     /**
      * 장바구니 비우기
      */
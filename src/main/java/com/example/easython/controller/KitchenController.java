@@ -0,0 +1,49 @@
+package com.example.easython.controller;
+
+import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.KitchenLoadDto;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.service.AdmissionControlService;
+import com.example.easython.service.KitchenQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/kitchen")
+@RequiredArgsConstructor
+public class KitchenController {
+
+    private final KitchenQueueService kitchenQueueService;
+    private final AdmissionControlService admissionControlService;
+
+    /**
+     * 가게별 주방 대기열 조회 (결제 완료 ~ 준비 완료 주문)
+     */
+    @GetMapping("/{restaurantName}/queue")
+    public ResponseEntity<ApiResponse<List<OrderDto>>> getQueue(@PathVariable String restaurantName) {
+        List<OrderDto> orders = kitchenQueueService.getQueue(restaurantName);
+        return ResponseEntity.ok(ApiResponse.success("주방 대기열 조회 성공", orders));
+    }
+
+    /**
+     * 가게별 주방 부하 조회 (조리 대기 주문 수, 처리량, 예상 대기 시간)
+     */
+    @GetMapping("/{restaurantName}/load")
+    public ResponseEntity<ApiResponse<KitchenLoadDto>> getLoad(@PathVariable String restaurantName) {
+        KitchenLoadDto load = admissionControlService.getLoad(restaurantName);
+        return ResponseEntity.ok(ApiResponse.success("주방 부하 조회 성공", load));
+    }
+
+    /**
+     * 가게별 주방 대기열 실시간 구독 (SSE)
+     */
+    @GetMapping(value = "/{restaurantName}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueue(@PathVariable String restaurantName) {
+        return kitchenQueueService.subscribe(restaurantName);
+    }
+}
@@ -1,15 +1,26 @@
 package com.example.easython.controller;
 
 import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.MenuCatalogStatsDto;
 import com.example.easython.dto.MenuDto;
 import com.example.easython.dto.MenuListResponseDto;
+import com.example.easython.dto.MenuStockDto;
+import com.example.easython.dto.MenuStockRequestDto;
+import com.example.easython.dto.NutritionQueryDto;
+import com.example.easython.service.InventoryService;
+import com.example.easython.service.MenuResponseCache;
 import com.example.easython.service.MenuService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/menus")
@@ -17,14 +28,16 @@ import java.util.List;
 public class MenuController {
 
     private final MenuService menuService;
+    private final InventoryService inventoryService;
 
     /**
      * 전체 메뉴 조회
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MenuDto>>> getAllMenus() {
-        List<MenuDto> menus = menuService.getAllMenus();
-        return ResponseEntity.ok(ApiResponse.success("전체 메뉴 조회 성공", menus));
+    public ResponseEntity<byte[]> getAllMenus(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toCachedResponse(menuService.getAllMenusResponse(), ifNoneMatch, acceptEncoding);
     }
 
     /**
@@ -48,13 +61,52 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success("인기 메뉴 조회 성공", menus));
     }
 
+    /**
+     * 사용자 알레르기 유발성분이 없는 메뉴 조회
+     */
+    @GetMapping("/safe")
+    public ResponseEntity<ApiResponse<List<MenuDto>>> getSafeMenus(@RequestParam String userId) {
+        try {
+            List<MenuDto> menus = menuService.getSafeMenus(userId);
+            return ResponseEntity.ok(ApiResponse.success("알레르기 안전 메뉴 조회 성공", menus));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 영양성분 범위 조건으로 메뉴 조회 (예: maxCalories=500&minProtein=25&sortBy=protein)
+     */
+    @GetMapping("/nutrition-query")
+    public ResponseEntity<ApiResponse<List<MenuDto>>> queryByNutrition(@ModelAttribute NutritionQueryDto query) {
+        try {
+            List<MenuDto> menus = menuService.queryByNutrition(query);
+            return ResponseEntity.ok(ApiResponse.success("영양성분 조건 메뉴 조회 성공", menus));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     /**
      * 식당별 메뉴 조회
      */
     @GetMapping("/restaurant/{restaurantName}")
-    public ResponseEntity<ApiResponse<List<MenuDto>>> getMenusByRestaurant(@PathVariable String restaurantName) {
-        List<MenuDto> menus = menuService.getMenusByRestaurant(restaurantName);
-        return ResponseEntity.ok(ApiResponse.success("식당별 메뉴 조회 성공", menus));
+    public ResponseEntity<byte[]> getMenusByRestaurant(
+            @PathVariable String restaurantName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toCachedResponse(menuService.getMenusByRestaurantResponse(restaurantName), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 메뉴 카탈로그 캐시 통계 조회
+     */
+    @GetMapping("/catalog/stats")
+    public ResponseEntity<ApiResponse<MenuCatalogStatsDto>> getCatalogStats() {
+        MenuCatalogStatsDto stats = menuService.getCatalogStats();
+        return ResponseEntity.ok(ApiResponse.success("메뉴 카탈로그 통계 조회 성공", stats));
     }
 
     /**
@@ -70,5 +122,93 @@ public class MenuController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
-}
 
+    /**
+     * 메뉴 재고 현황 조회
+     */
+    @GetMapping("/{menuId}/stock")
+    public ResponseEntity<ApiResponse<MenuStockDto>> getStock(@PathVariable String menuId) {
+        try {
+            MenuStockDto stock = inventoryService.getStock(menuId);
+            return ResponseEntity.ok(ApiResponse.success("메뉴 재고 조회 성공", stock));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 메뉴 일일 재고 설정 (dailyStock이 null이면 제한 해제)
+     */
+    @PutMapping("/{menuId}/stock")
+    public ResponseEntity<ApiResponse<MenuStockDto>> setDailyStock(
+            @PathVariable String menuId,
+            @Valid @RequestBody MenuStockRequestDto request) {
+        try {
+            MenuStockDto stock = inventoryService.setDailyStock(menuId, request.getDailyStock());
+            return ResponseEntity.ok(ApiResponse.success("메뉴 재고 설정 성공", stock));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 직렬화된 응답을 ETag/gzip 협상 결과에 맞게 반환 (일치하면 304)
+     */
+    private ResponseEntity<byte[]> toCachedResponse(MenuResponseCache.SerializedResponse response,
+                                                    String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? response.gzipEtag() : response.etag();
+
+        if (response.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzipJson());
+        }
+        return builder.body(response.json());
+    }
+
+    /**
+     * Accept-Encoding에서 gzip을 받을 수 있는지 (q=0은 거부, gzip이 없으면 "*"의 q값을 따름)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.toLowerCase(Locale.ROOT).startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return quality > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+}
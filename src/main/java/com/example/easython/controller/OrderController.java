@@ -1,14 +1,25 @@
 package com.example.easython.controller;
 
 import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.BulkStatusRequestDto;
+import com.example.easython.dto.BulkStatusResultDto;
+import com.example.easython.dto.CursorPageDto;
 import com.example.easython.dto.OrderDto;
+import com.example.easython.dto.OrderEtaDto;
 import com.example.easython.dto.OrderRequestDto;
+import com.example.easython.dto.OrderSummaryDto;
+import com.example.easython.exception.KitchenOverloadedException;
+import com.example.easython.exception.RequestInProgressException;
+import com.example.easython.service.IdempotencyService;
+import com.example.easython.service.OrderEtaService;
 import com.example.easython.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,18 +29,24 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final OrderEtaService orderEtaService;
 
     /**
-     * 장바구니에서 주문 생성
+     * 장바구니에서 주문 생성 (Idempotency-Key 헤더 지원)
      */
     @PostMapping("/user/{userId}/table/{tableId}/from-cart")
     public ResponseEntity<ApiResponse<OrderDto>> createOrderFromCart(
             @PathVariable String userId,
-            @PathVariable String tableId) {
+            @PathVariable String tableId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            OrderDto order = orderService.createOrderFromCart(userId, tableId);
+            OrderDto order = idempotencyService.execute("order-from-cart", userId, idempotencyKey, tableId,
+                    OrderDto.class, () -> orderService.createOrderFromCart(userId, tableId));
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("주문 생성 성공", order));
+        } catch (KitchenOverloadedException | RequestInProgressException e) {
+            throw e; // 429, 409 응답은 GlobalExceptionHandler에서
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage()));
@@ -37,16 +54,20 @@ public class OrderController {
     }
 
     /**
-     * 주문 생성
+     * 주문 생성 (Idempotency-Key 헤더 지원)
      */
     @PostMapping("/{userId}")
     public ResponseEntity<ApiResponse<OrderDto>> createOrder(
             @PathVariable String userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody OrderRequestDto request) {
         try {
-            OrderDto order = orderService.createOrder(userId, request);
+            OrderDto order = idempotencyService.execute("order", userId, idempotencyKey, request,
+                    OrderDto.class, () -> orderService.createOrder(userId, request));
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("주문 생성 성공", order));
+        } catch (KitchenOverloadedException | RequestInProgressException e) {
+            throw e; // 429, 409 응답은 GlobalExceptionHandler에서
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage()));
@@ -67,6 +88,35 @@ public class OrderController {
         }
     }
 
+    /**
+     * 주문 조리 시작 처리
+     */
+    @PutMapping("/{orderId}/preparing")
+    public ResponseEntity<ApiResponse<OrderDto>> prepareOrder(@PathVariable String orderId) {
+        try {
+            OrderDto order = orderService.prepareOrder(orderId);
+            return ResponseEntity.ok(ApiResponse.success("주문 조리 시작 처리 성공", order));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 여러 주문 상태 일괄 변경 (주방 단말에서 여러 주문을 한 번에 처리)
+     */
+    @PutMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkStatusResultDto>> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusRequestDto request) {
+        try {
+            BulkStatusResultDto result = orderService.bulkTransition(request.getOrderIds(), request.getStatus());
+            return ResponseEntity.ok(ApiResponse.success("주문 상태 일괄 변경 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     /**
      * 주문 준비 완료 처리 (메뉴 나오면)
      */
@@ -82,7 +132,29 @@ public class OrderController {
     }
 
     /**
-     * 사용자별 주문 조회
+     * 주문 예상 대기 시간 조회 (대기열 순서와 메뉴별 조리 시간 기준)
+     */
+    @GetMapping("/{orderId}/eta")
+    public ResponseEntity<ApiResponse<OrderEtaDto>> getOrderEta(@PathVariable String orderId) {
+        try {
+            OrderEtaDto eta = orderEtaService.getEta(orderId);
+            return ResponseEntity.ok(ApiResponse.success("예상 대기 시간 조회 성공", eta));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 주문 예상 대기 시간 실시간 구독 (SSE)
+     */
+    @GetMapping(value = "/{orderId}/eta/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEta(@PathVariable String orderId) {
+        return orderEtaService.subscribe(orderId);
+    }
+
+    /**
+     * 사용자별 최근 주문 조회 (전체 목록은 /user/{userId}/page)
      */
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<List<OrderDto>>> getOrdersByUserId(@PathVariable String userId) {
@@ -90,6 +162,24 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success("주문 조회 성공", orders));
     }
 
+    /**
+     * 사용자별 주문 목록 페이지 조회 (cursor는 이전 응답의 nextCursor, includeItems면 주문 항목 포함)
+     */
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<ApiResponse<CursorPageDto<OrderSummaryDto>>> getOrderPage(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeItems) {
+        try {
+            CursorPageDto<OrderSummaryDto> page = orderService.getOrderPage(userId, cursor, size, includeItems);
+            return ResponseEntity.ok(ApiResponse.success("주문 조회 성공", page));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     /**
      * 주문 ID로 조회
      */
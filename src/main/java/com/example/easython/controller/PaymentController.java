@@ -3,6 +3,9 @@ package com.example.easython.controller;
 import com.example.easython.dto.ApiResponse;
 import com.example.easython.dto.PaymentDto;
 import com.example.easython.dto.PaymentRequestDto;
+import com.example.easython.exception.KitchenOverloadedException;
+import com.example.easython.exception.RequestInProgressException;
+import com.example.easython.service.IdempotencyService;
 import com.example.easython.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,18 +21,23 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * 결제 처리
+     * 결제 처리 (Idempotency-Key 헤더가 있으면 재시도 시 처음 결과 반환)
      */
     @PostMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<PaymentDto>> processPayment(
             @PathVariable String userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody PaymentRequestDto request) {
         try {
-            PaymentDto payment = paymentService.processPayment(userId, request);
+            PaymentDto payment = idempotencyService.execute("payment", userId, idempotencyKey, request,
+                    PaymentDto.class, () -> paymentService.processPayment(userId, request));
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("결제 완료", payment));
+        } catch (KitchenOverloadedException | RequestInProgressException e) {
+            throw e; // 429, 409 응답은 GlobalExceptionHandler에서
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(e.getMessage()));
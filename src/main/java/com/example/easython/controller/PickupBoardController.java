@@ -0,0 +1,48 @@
+package com.example.easython.controller;
+
+import com.example.easython.service.PickupBoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/pickup-board")
+@RequiredArgsConstructor
+public class PickupBoardController {
+
+    private final PickupBoardService pickupBoardService;
+
+    /**
+     * 가게별 픽업 전광판 조회 (준비 완료 주문, 변경이 없으면 304)
+     */
+    @GetMapping("/{restaurantName}")
+    public ResponseEntity<byte[]> getBoard(
+            @PathVariable String restaurantName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PickupBoardService.Board board = pickupBoardService.getBoard(restaurantName);
+        if (board.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(board.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(board.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(board.json());
+    }
+
+    /**
+     * 가게별 픽업 전광판 실시간 구독 (SSE)
+     */
+    @GetMapping(value = "/{restaurantName}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoard(@PathVariable String restaurantName) {
+        return pickupBoardService.subscribe(restaurantName);
+    }
+}
@@ -67,5 +67,13 @@ public class RatingController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
-}
 
+    /**
+     * 메뉴 평점 요약 재구성 (관리자용)
+     */
+    @PostMapping("/summaries/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildRatingSummaries() {
+        int ratedMenuCount = menuRatingService.rebuildRatingSummaries();
+        return ResponseEntity.ok(ApiResponse.success("메뉴 평점 요약 재구성 성공", ratedMenuCount));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.easython.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알레르기 유발성분 표준 사전
+ *
+ * 성분 이름을 long 비트마스크로 변환한다. 같은 성분의 다른 표기(계란/난류, 밀가루/밀)는 같은 비트를,
+ * 묶음 성분(견과류)은 하위 성분 비트를 함께 사용한다. 사전에 없는 성분은 모두 기타 비트로 모이므로
+ * 사용자와 메뉴 양쪽에 미등록 성분이 있으면 안전하지 않은 것으로 판단된다.
+ */
+public final class AllergenDictionary {
+
+    private static final int UNKNOWN_BIT = 63;
+    private static final Map<String, Long> MASKS = new HashMap<>();
+
+    static {
+        register(0, "난류", "계란", "달걀");
+        register(1, "우유", "유제품");
+        register(2, "메밀");
+        register(3, "땅콩");
+        register(4, "대두", "콩");
+        register(5, "밀", "밀가루");
+        register(6, "고등어");
+        register(7, "게");
+        register(8, "새우");
+        register(9, "돼지고기");
+        register(10, "복숭아");
+        register(11, "토마토");
+        register(12, "아황산류");
+        register(13, "호두");
+        register(14, "닭고기");
+        register(15, "쇠고기", "소고기");
+        register(16, "오징어");
+        register(17, "조개류", "굴", "전복", "홍합");
+        register(18, "잣");
+        register(19, "견과류");
+        // 견과류는 호두, 잣을 포함하는 묶음 성분
+        MASKS.put("견과류", bit(19) | bit(13) | bit(18));
+    }
+
+    private AllergenDictionary() {
+    }
+
+    /**
+     * 성분 목록을 비트마스크로 변환
+     */
+    public static long encode(Collection<String> ingredients) {
+        if (ingredients == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String ingredient : ingredients) {
+            mask |= maskOf(ingredient);
+        }
+        return mask;
+    }
+
+    /**
+     * 사용자 알레르기 성분 중 메뉴 성분과 겹치는 성분 반환 (사전에 없는 성분은 이름이 같을 때만 일치)
+     */
+    public static List<String> matching(Collection<String> allergies, Collection<String> ingredients) {
+        List<String> matches = new ArrayList<>();
+        if (allergies == null || ingredients == null) {
+            return matches;
+        }
+        long knownMask = encode(ingredients) & ~bit(UNKNOWN_BIT);
+        for (String allergy : allergies) {
+            long mask = maskOf(allergy);
+            boolean known = mask != bit(UNKNOWN_BIT);
+            if (known ? (mask & knownMask) != 0L : ingredients.contains(allergy)) {
+                matches.add(allergy);
+            }
+        }
+        return matches;
+    }
+
+    private static long maskOf(String ingredient) {
+        if (ingredient == null || ingredient.isBlank()) {
+            return 0L;
+        }
+        return MASKS.getOrDefault(ingredient.trim(), bit(UNKNOWN_BIT));
+    }
+
+    private static void register(int bit, String... names) {
+        for (String name : names) {
+            MASKS.put(name, bit(bit));
+        }
+    }
+
+    private static long bit(int index) {
+        return 1L << index;
+    }
+}
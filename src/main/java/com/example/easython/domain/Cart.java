@@ -28,10 +28,11 @@ public class Cart {
     private LocalDateTime updatedAt;
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CartItem {
+        private String lineId; // 장바구니 항목 ID (수량 변경, 삭제 시 사용)
         private String menuId;
         private String menuName;
         private Integer quantity;
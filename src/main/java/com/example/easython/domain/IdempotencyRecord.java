@@ -0,0 +1,33 @@
+package com.example.easython.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+    @Id
+    private String id; // 범위:사용자 ID:Idempotency-Key
+    private String requestHash; // 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    private IdempotencyStatus status; // 처리 상태
+    private LocalDateTime leaseUntil; // 처리 중 예약 만료 시간 (지나면 다른 요청이 이어받음)
+    private String response; // 처리 결과 (JSON)
+    @Indexed(expireAfter = "1d")
+    private LocalDateTime createdAt; // 생성 시간 (하루 뒤 자동 삭제)
+    private LocalDateTime completedAt;
+
+    public enum IdempotencyStatus {
+        PROCESSING, // 처리 중
+        COMPLETED   // 처리 완료
+    }
+}
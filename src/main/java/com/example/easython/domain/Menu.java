@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -30,6 +31,12 @@ public class Menu {
     private LocalDate availableDate; // 제공 날짜
     private NutritionInfo nutritionInfo; // 영양성분 정보
     private List<String> allergyIngredients; // 알레르기 유발성분 목록
+    private Long allergenMask; // 알레르기 유발성분 비트마스크 (AllergenDictionary 기준, 저장 시 자동 갱신)
+    private RatingSummary ratingSummary; // 평점 요약 (menu_ratings 집계 결과)
+    private Integer dailyStock; // 일일 재고 (null이면 제한 없음)
+    private Integer soldToday; // stockDate 기준 판매 수량 (InventoryService가 주기적으로 반영)
+    private LocalDate stockDate; // 판매 수량 기준 날짜
+    private LocalDate soldOutDate; // 품절된 날짜 (오늘이면 품절)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -50,5 +57,17 @@ public class Menu {
         private BigDecimal fiber; // 섬유질 (g)
         private Integer cholesterol; // 콜레스테롤 (mg)
     }
-}
 
+    /**
+     * 평점 요약 정보 (평가 생성/수정/삭제 시 $inc로 갱신)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RatingSummary {
+        private Integer count; // 평가 수
+        private Integer sum; // 평점 합계
+        private Map<String, Integer> histogram; // 평점별(1-5) 평가 수
+    }
+}
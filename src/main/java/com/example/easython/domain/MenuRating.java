@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "menu_ratings")
+@CompoundIndex(name = "menu_user_idx", def = "{'menuId': 1, 'userId': 1}", unique = true) // 사용자당 메뉴 평가 1건
 public class MenuRating {
     @Id
     private String id;
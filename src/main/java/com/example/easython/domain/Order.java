@@ -5,28 +5,45 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "orders")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_ordered_at_idx", def = "{'userId': 1, 'orderedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "ordered_at_idx", def = "{'orderedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_ordered_at_idx", def = "{'status': 1, 'orderedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_updated_at_idx", def = "{'status': 1, 'updatedAt': 1}"),
+        @CompoundIndex(name = "restaurant_ordered_at_idx", def = "{'restaurantName': 1, 'orderedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "table_ordered_at_idx", def = "{'tableId': 1, 'orderedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "ready_at_idx", def = "{'readyAt': -1}", sparse = true) // 조리 시간 모델 구성 (준비 완료 주문만)
+})
 public class Order {
     @Id
     private String id;
     private String userId; // 주문한 사용자 ID
     private String tableId; // 테이블 ID
     private String tableNumber; // 테이블 번호
+    private String restaurantName; // 가게 이름 (주문 시점의 테이블 기준)
+    private Integer pickupNumber; // 가게별 일일 픽업 번호
     private List<OrderItem> items; // 주문 항목들
     private BigDecimal totalPrice; // 총 가격
     private OrderStatus status; // 주문 상태
     private LocalDateTime orderedAt; // 주문 시간
+    private LocalDateTime readyAt; // 준비 완료 시간
     private LocalDateTime completedAt; // 완료 시간
+    private String lastTransitionId; // 마지막으로 상태를 바꾼 일괄 변경 ID
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -53,7 +70,22 @@ public class Order {
         PREPARING,  // 준비 중
         READY,      // 준비 완료
         COMPLETED,  // 완료
-        CANCELLED   // 취소
+        CANCELLED;  // 취소
+
+        /**
+         * 이 상태로 변경할 수 있는 이전 상태 목록
+         */
+        public Set<OrderStatus> allowedFrom() {
+            return switch (this) {
+                case PENDING, IN_CART -> EnumSet.noneOf(OrderStatus.class);
+                case PAYED -> EnumSet.of(PENDING, IN_CART);
+                case CONFIRMED -> EnumSet.of(PENDING, PAYED);
+                case PREPARING -> EnumSet.of(PAYED, CONFIRMED); // 미결제 주문은 주방 단계로 넘길 수 없음
+                case READY -> EnumSet.of(PAYED, CONFIRMED, PREPARING);
+                case COMPLETED -> EnumSet.of(READY);
+                case CANCELLED -> EnumSet.of(PENDING, IN_CART, PAYED, CONFIRMED);
+            };
+        }
     }
 }
 
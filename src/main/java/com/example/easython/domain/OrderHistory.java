@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "order_histories")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_menu_idx", def = "{'userId': 1, 'menuId': 1}", unique = true),
+        @CompoundIndex(name = "user_order_count_idx", def = "{'userId': 1, 'orderCount': -1}")
+})
 public class OrderHistory {
     @Id
     private String id;
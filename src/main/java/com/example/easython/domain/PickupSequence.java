@@ -0,0 +1,25 @@
+package com.example.easython.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "pickup_sequences")
+public class PickupSequence {
+    @Id
+    private String id; // 가게 이름:날짜 (yyyy-MM-dd)
+    private Integer lastNumber; // 지금까지 발급(임대)된 마지막 번호
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime createdAt; // 생성 시간 (일주일 뒤 자동 삭제)
+    private LocalDateTime updatedAt;
+}
@@ -22,6 +22,7 @@ public class User {
     private String id; // 사용자 ID (학번 또는 고유 식별자)
     private String name; // 사용자 이름 (선택적)
     private List<String> allergyIngredients; // 알레르기 유발성분 목록
+    private Long allergenMask; // 알레르기 유발성분 비트마스크 (AllergenDictionary 기준, 저장 시 자동 갱신)
     private NutritionGoal nutritionGoal; // 영양 목표/선호도
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,23 @@
+package com.example.easython.dto;
+
+import com.example.easython.domain.Order;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequestDto {
+    @NotEmpty(message = "주문 ID 목록은 필수입니다")
+    private List<String> orderIds; // 변경할 주문 ID 목록
+
+    @NotNull(message = "변경할 상태는 필수입니다")
+    private Order.OrderStatus status; // 변경할 상태 (PREPARING, READY, COMPLETED)
+}
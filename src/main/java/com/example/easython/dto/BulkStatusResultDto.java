@@ -0,0 +1,19 @@
+package com.example.easython.dto;
+
+import com.example.easython.domain.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResultDto {
+    private Order.OrderStatus status; // 변경한 상태
+    private List<OrderDto> updatedOrders; // 변경된 주문
+    private List<String> failedOrderIds; // 주문이 없거나 현재 상태에서 변경할 수 없는 주문 ID
+}
@@ -28,6 +28,7 @@ public class CartDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CartItemDto {
+        private String lineId; // 장바구니 항목 ID
         private String menuId;
         private String menuName;
         private Integer quantity;
@@ -0,0 +1,18 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content; // 현재 페이지 항목
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
@@ -0,0 +1,19 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenLoadDto {
+    private String restaurantName; // 가게 이름
+    private Integer backlog; // 조리 대기 주문 수 (결제 완료 ~ 조리 중)
+    private Integer maxBacklog; // 주문 접수 기준 대기 주문 수
+    private Double throughputPerMinute; // 최근 분당 준비 완료 주문 수
+    private Long estimatedWaitSeconds; // 새 주문의 예상 대기 시간 (초)
+    private Boolean accepting; // 주문 접수 가능 여부
+}
@@ -0,0 +1,22 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuCatalogStatsDto {
+    private Long version; // 현재 스냅샷 버전
+    private Integer menuCount; // 스냅샷에 담긴 메뉴 수
+    private Long hitCount; // 스냅샷에서 바로 응답한 횟수
+    private Long missCount; // 스냅샷이 없어 DB를 조회한 횟수
+    private Long rebuildCount; // 스냅샷 재구성 횟수
+    private Long lastRebuildMillis; // 마지막 재구성 소요 시간 (ms)
+    private LocalDateTime builtAt; // 현재 스냅샷 생성 시간
+}
@@ -10,9 +10,10 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.example.easython.domain.Menu.NutritionInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MenuDto {
@@ -26,7 +27,11 @@ public class MenuDto {
     private LocalDate availableDate;
     private NutritionInfo nutritionInfo; // 영양성분 정보
     private List<String> allergyIngredients; // 알레르기 유발성분 목록
+    @JsonIgnore
+    private Long allergenMask; // 알레르기 유발성분 비트마스크 (내부 필터링용)
     private Double averageRating; // 평균 평점
+    private Integer ratingCount; // 평가 수
     private Integer orderCount; // 주문 횟수 (사용자별)
+    private Integer dailyStock; // 일일 재고 (null이면 제한 없음)
 }
 
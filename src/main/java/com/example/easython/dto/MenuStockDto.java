@@ -0,0 +1,19 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuStockDto {
+    private String menuId; // 메뉴 ID
+    private String menuName; // 메뉴 이름
+    private Integer dailyStock; // 일일 재고 (null이면 제한 없음)
+    private Integer soldToday; // 오늘 판매 수량
+    private Integer remainingStock; // 남은 재고
+    private Boolean soldOut; // 품절 여부
+}
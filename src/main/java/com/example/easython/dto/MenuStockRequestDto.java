@@ -0,0 +1,16 @@
+package com.example.easython.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuStockRequestDto {
+    @Min(value = 0, message = "일일 재고는 0 이상이어야 합니다")
+    private Integer dailyStock; // 일일 재고 (null이면 제한 해제)
+}
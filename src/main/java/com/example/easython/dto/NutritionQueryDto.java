@@ -0,0 +1,36 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영양성분 범위 조회 조건 (모든 조건은 선택적, 범위는 양 끝 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionQueryDto {
+    private Double minCalories; // 최소 칼로리 (kcal)
+    private Double maxCalories; // 최대 칼로리 (kcal)
+    private Double minProtein; // 최소 단백질 (g)
+    private Double maxProtein; // 최대 단백질 (g)
+    private Double minCarbs; // 최소 탄수화물 (g)
+    private Double maxCarbs; // 최대 탄수화물 (g)
+    private Double minFat; // 최소 지방 (g)
+    private Double maxFat; // 최대 지방 (g)
+    private Double minSugar; // 최소 당 (g)
+    private Double maxSugar; // 최대 당 (g)
+    private Double minSodium; // 최소 나트륨 (mg)
+    private Double maxSodium; // 최대 나트륨 (mg)
+    private Double minFiber; // 최소 섬유질 (g)
+    private Double maxFiber; // 최대 섬유질 (g)
+    private Double minCholesterol; // 최소 콜레스테롤 (mg)
+    private Double maxCholesterol; // 최대 콜레스테롤 (mg)
+    private String restaurantName; // 가게 이름
+    private String sortBy; // 정렬 기준 영양성분 (calories, protein, carbs, fat, sugar, sodium, fiber, cholesterol)
+    private String direction; // 정렬 방향 (asc, desc / 기본 desc)
+    private Integer limit; // 최대 결과 수 (기본 10, 최대 100)
+}
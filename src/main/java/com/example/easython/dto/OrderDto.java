@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderDto {
@@ -19,10 +19,13 @@ public class OrderDto {
     private String userId;
     private String tableId;
     private String tableNumber;
+    private String restaurantName;
+    private Integer pickupNumber;
     private List<OrderItemDto> items;
     private BigDecimal totalPrice;
     private Order.OrderStatus status;
     private LocalDateTime orderedAt;
+    private LocalDateTime readyAt;
     private LocalDateTime completedAt;
 
     @Data
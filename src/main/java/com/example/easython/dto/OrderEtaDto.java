@@ -0,0 +1,22 @@
+package com.example.easython.dto;
+
+import com.example.easython.domain.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEtaDto {
+    private String orderId; // 주문 ID
+    private Order.OrderStatus status; // 주문 상태
+    private Integer pickupNumber; // 픽업 번호
+    private Integer ordersAhead; // 앞에서 조리 대기 중인 주문 수
+    private Long estimatedWaitSeconds; // 예상 남은 대기 시간 (초)
+    private LocalDateTime estimatedReadyAt; // 예상 준비 완료 시간
+}
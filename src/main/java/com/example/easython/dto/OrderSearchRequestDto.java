@@ -0,0 +1,27 @@
+package com.example.easython.dto;
+
+import com.example.easython.domain.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchRequestDto {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from; // 주문 시간 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to; // 주문 시간 끝 (제외)
+
+    private List<Order.OrderStatus> status; // 주문 상태 (여러 개 지정 가능)
+    private String restaurantName; // 가게 이름
+    private String tableId; // 테이블 ID
+}
@@ -0,0 +1,29 @@
+package com.example.easython.dto;
+
+import com.example.easython.domain.Order;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+    private String id;
+    private String restaurantName; // 가게 이름
+    private Integer pickupNumber; // 픽업 번호
+    private Order.OrderStatus status;
+    private BigDecimal totalPrice;
+    private LocalDateTime orderedAt;
+    private Integer itemCount; // 주문 항목 수
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<OrderDto.OrderItemDto> items; // 주문 항목 (요청한 경우에만)
+}
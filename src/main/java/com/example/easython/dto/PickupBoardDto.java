@@ -0,0 +1,31 @@
+package com.example.easython.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickupBoardDto {
+    private String restaurantName; // 가게 이름
+    private Long version; // 전광판 버전 (변경될 때마다 증가)
+    private List<PickupEntryDto> readyOrders; // 준비 완료 주문 (준비된 순서)
+    private LocalDateTime updatedAt; // 마지막 변경 시간
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PickupEntryDto {
+        private String orderId; // 주문 ID
+        private Integer pickupNumber; // 픽업 번호
+        private String tableNumber; // 테이블 번호
+        private LocalDateTime readyAt; // 준비 완료 시간
+    }
+}
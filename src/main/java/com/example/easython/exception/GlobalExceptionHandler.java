@@ -1,6 +1,7 @@
 package com.example.easython.exception;
 
 import com.example.easython.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -30,6 +31,26 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("유효성 검사 실패: " + errors));
     }
 
+    /**
+     * 주방 과부하로 주문 접수 거절 (429, Retry-After)
+     */
+    @ExceptionHandler(KitchenOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleKitchenOverloaded(KitchenOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * 같은 Idempotency-Key의 요청이 처리 중 (409, Retry-After)
+     */
+    @ExceptionHandler(RequestInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRequestInProgress(RequestInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * 런타임 예외 처리
      */
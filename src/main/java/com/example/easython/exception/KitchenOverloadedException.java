@@ -0,0 +1,18 @@
+package com.example.easython.exception;
+
+/**
+ * 주방 대기 주문이 기준치를 넘어 주문을 받을 수 없을 때 발생 (429 응답, Retry-After 포함)
+ */
+public class KitchenOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public KitchenOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
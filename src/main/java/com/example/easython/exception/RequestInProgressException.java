@@ -0,0 +1,18 @@
+package com.example.easython.exception;
+
+/**
+ * 같은 Idempotency-Key의 요청이 아직 처리 중일 때 발생 (409 응답, Retry-After 포함)
+ */
+public class RequestInProgressException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RequestInProgressException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.easython.repository;
 
 import com.example.easython.domain.OrderHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +13,6 @@ import java.util.Optional;
 public interface OrderHistoryRepository extends MongoRepository<OrderHistory, String> {
     List<OrderHistory> findByUserIdOrderByOrderCountDesc(String userId);
     Optional<OrderHistory> findByUserIdAndMenuId(String userId, String menuId);
-    List<OrderHistory> findTop3ByUserIdOrderByOrderCountDesc(String userId);
+    List<OrderHistory> findByUserIdAndMenuIdInOrderByOrderCountDesc(String userId, Collection<String> menuIds, Pageable pageable);
 }
 
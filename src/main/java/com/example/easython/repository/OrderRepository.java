@@ -1,6 +1,7 @@
 package com.example.easython.repository;
 
 import com.example.easython.domain.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,7 +11,7 @@ import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends MongoRepository<Order, String> {
-    List<Order> findByUserId(String userId);
+    List<Order> findByUserIdOrderByOrderedAtDesc(String userId, Pageable pageable);
     List<Order> findByTableId(String tableId);
     List<Order> findByStatus(Order.OrderStatus status);
     List<Order> findByOrderedAtBetween(LocalDateTime start, LocalDateTime end);
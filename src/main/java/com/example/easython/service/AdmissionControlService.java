@@ -0,0 +1,130 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.KitchenLoadDto;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.exception.KitchenOverloadedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주방 부하 기반 주문 접수 제어
+ *
+ * 가게별 조리 대기 주문 수(주방 대기열)가 기준치 이상이면 주문을 만들기 전에 바로 거절하고,
+ * 최근 준비 완료 처리량으로 계산한 예상 대기 시간을 Retry-After로 알려 준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdmissionControlService {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(15).toMillis();
+    private static final int MIN_SAMPLES = 3;
+    private static final long DEFAULT_SECONDS_PER_ORDER = 60;
+
+    private final KitchenQueueService kitchenQueueService;
+
+    @Value("${kitchen.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kitchen.admission.max-backlog:60}")
+    private int maxBacklog;
+
+    // 가게별 최근 준비 완료 시각 (처리량 계산용, 오래된 순)
+    private final Map<String, Deque<Long>> readyTimes = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 접수 가능 여부 확인 (대기 주문이 기준치 이상이면 KitchenOverloadedException)
+     */
+    public void checkAdmission(String restaurantName) {
+        if (!enabled) {
+            return;
+        }
+        int backlog = kitchenQueueService.getBacklog(restaurantName);
+        if (backlog < maxBacklog) {
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, secondsToDrain(restaurantName, backlog - maxBacklog + 1));
+        long waitMinutes = Math.max(1, Math.round(secondsToDrain(restaurantName, backlog) / 60.0));
+        throw new KitchenOverloadedException(
+                "주방 대기 주문이 많아 주문을 받을 수 없습니다. (예상 대기 약 " + waitMinutes + "분)", retryAfterSeconds);
+    }
+
+    /**
+     * 가게별 주방 부하 조회
+     */
+    public KitchenLoadDto getLoad(String restaurantName) {
+        int backlog = kitchenQueueService.getBacklog(restaurantName);
+        return KitchenLoadDto.builder()
+                .restaurantName(restaurantName)
+                .backlog(backlog)
+                .maxBacklog(maxBacklog)
+                .throughputPerMinute(throughputPerMinute(restaurantName))
+                .estimatedWaitSeconds(secondsToDrain(restaurantName, backlog + 1))
+                .accepting(!enabled || backlog < maxBacklog)
+                .build();
+    }
+
+    /**
+     * 준비 완료 주문으로 처리량 갱신
+     */
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderDto order = event.order();
+        if (order.getStatus() != Order.OrderStatus.READY) {
+            return;
+        }
+        Deque<Long> times = readyTimes.computeIfAbsent(
+                Objects.requireNonNullElse(order.getRestaurantName(), ""), name -> new ArrayDeque<>());
+        long now = System.currentTimeMillis();
+        synchronized (times) {
+            times.addLast(order.getReadyAt() != null
+                    ? order.getReadyAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : now);
+            trim(times, now);
+        }
+    }
+
+    /**
+     * 주문 n건이 처리되는 데 걸리는 예상 시간 (최근 처리량이 부족하면 주문당 기본 시간 사용)
+     */
+    long secondsToDrain(String restaurantName, int orders) {
+        double perMinute = throughputPerMinute(restaurantName);
+        if (perMinute <= 0) {
+            return orders * DEFAULT_SECONDS_PER_ORDER;
+        }
+        return Math.round(orders * 60.0 / perMinute);
+    }
+
+    private double throughputPerMinute(String restaurantName) {
+        Deque<Long> times = readyTimes.get(Objects.requireNonNullElse(restaurantName, ""));
+        if (times == null) {
+            return 0.0;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (times) {
+            trim(times, now);
+            if (times.size() < MIN_SAMPLES) {
+                return 0.0;
+            }
+            // 첫 기록부터 현재까지의 구간으로 나눔 (구간은 최대 WINDOW_MILLIS)
+            long span = Math.max(now - times.peekFirst(), Duration.ofMinutes(1).toMillis());
+            return times.size() * 60_000.0 / span;
+        }
+    }
+
+    private static void trim(Deque<Long> times, long now) {
+        while (!times.isEmpty() && now - times.peekFirst() > WINDOW_MILLIS) {
+            times.pollFirst();
+        }
+    }
+}
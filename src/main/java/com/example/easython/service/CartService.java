@@ -1,79 +1,80 @@
 package com.example.easython.service;
 
 import com.example.easython.domain.Cart;
-import com.example.easython.domain.Menu;
 import com.example.easython.dto.CartDto;
 import com.example.easython.dto.CartRequestDto;
-import com.example.easython.repository.CartRepository;
-import com.example.easython.repository.MenuRepository;
+import com.example.easython.dto.MenuDto;
 import com.example.easython.repository.TableRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final MenuRepository menuRepository;
+    private final CartStore cartStore;
+    private final MenuCatalog menuCatalog;
     private final TableRepository tableRepository;
 
     /**
      * 장바구니 조회 또는 생성
      */
-    @Transactional
     public CartDto getOrCreateCart(String userId, String tableId) {
-        Cart cart = cartRepository.findByUserIdAndTableId(userId, tableId)
-                .orElseGet(() -> {
-                    var table = tableRepository.findById(tableId)
-                            .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
-
-                    return Cart.builder()
-                            .userId(userId)
-                            .tableId(tableId)
-                            .tableNumber(table.getTableNumber())
-                            .items(List.of())
-                            .totalPrice(BigDecimal.ZERO)
-                            .createdAt(LocalDateTime.now())
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-                });
-        cart = cartRepository.save(cart);
+        Cart cart = cartStore.get(userId, tableId);
+        if (cart != null) {
+            return convertToDto(cart);
+        }
+
+        var table = tableRepository.findById(tableId)
+                .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
+        // 동시에 만든 장바구니가 있으면 그대로 사용
+        cart = cartStore.update(userId, tableId, current -> current != null ? current : Cart.builder()
+                .userId(userId)
+                .tableId(tableId)
+                .tableNumber(table.getTableNumber())
+                .items(List.of())
+                .totalPrice(BigDecimal.ZERO)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
         return convertToDto(cart);
     }
 
     /**
      * 장바구니에 메뉴 추가
      */
-    @Transactional
     public CartDto addToCart(String userId, CartRequestDto request) {
-        var table = tableRepository.findById(request.getTableId())
-                .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
-
-        Cart cart = cartRepository.findByUserIdAndTableId(userId, request.getTableId())
-                .orElseGet(() -> Cart.builder()
-                        .userId(userId)
-                        .tableId(request.getTableId())
-                        .tableNumber(table.getTableNumber())
-                        .items(List.of())
-                        .totalPrice(BigDecimal.ZERO)
-                        .createdAt(LocalDateTime.now())
-                        .updatedAt(LocalDateTime.now())
-                        .build());
+        // 장바구니가 없을 때만 테이블 조회
+        String tableNumber;
+        Cart existing = cartStore.get(userId, request.getTableId());
+        if (existing != null) {
+            tableNumber = existing.getTableNumber();
+        } else {
+            tableNumber = tableRepository.findById(request.getTableId())
+                    .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."))
+                    .getTableNumber();
+        }
+
+        // 담을 메뉴 일괄 조회 (없는 메뉴가 있으면 전체 목록과 함께 실패)
+        Map<String, MenuDto> menus = menuCatalog.resolve(request.getItems().stream()
+                .map(CartRequestDto.CartItemRequestDto::getMenuId)
+                .toList());
 
         // 장바구니에 항목 추가
         List<Cart.CartItem> cartItems = request.getItems().stream()
                 .map(itemRequest -> {
-                    Menu menu = menuRepository.findById(itemRequest.getMenuId())
-                            .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다: " + itemRequest.getMenuId()));
+                    MenuDto menu = menus.get(itemRequest.getMenuId());
 
                     return Cart.CartItem.builder()
+                            .lineId(new ObjectId().toHexString())
                             .menuId(menu.getId())
                             .menuName(menu.getName())
                             .quantity(itemRequest.getQuantity())
@@ -85,43 +86,92 @@ public class CartService {
                             .build();
                 })
                 .collect(Collectors.toList());
-
-        // 기존 항목에 새 항목 추가
-        List<Cart.CartItem> updatedItems = cart.getItems() != null 
-                ? cart.getItems() 
-                : List.of();
-        updatedItems = new java.util.ArrayList<>(updatedItems);
-        updatedItems.addAll(cartItems);
-
-        // 총 가격 계산
-        BigDecimal totalPrice = updatedItems.stream()
+        BigDecimal addedPrice = cartItems.stream()
                 .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        cart.setItems(updatedItems);
-        cart.setTotalPrice(totalPrice);
-        cart.setUpdatedAt(LocalDateTime.now());
+        Cart savedCart = cartStore.update(userId, request.getTableId(), current -> {
+            Cart cart = current != null ? current : Cart.builder()
+                    .userId(userId)
+                    .tableId(request.getTableId())
+                    .tableNumber(tableNumber)
+                    .items(new ArrayList<>())
+                    .totalPrice(BigDecimal.ZERO)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            // 기존 항목에 새 항목 추가 (총 가격은 추가한 금액만큼 증가)
+            cart.getItems().addAll(cartItems);
+            cart.setTotalPrice(cart.getTotalPrice().add(addedPrice));
+            cart.setUpdatedAt(LocalDateTime.now());
+            return cart;
+        });
+        return convertToDto(savedCart);
+    }
 
-        Cart savedCart = cartRepository.save(cart);
+    /**
+     * 장바구니 항목 수량 변경 (총 가격은 변경된 수량만큼만 조정)
+     */
+    public CartDto updateItemQuantity(String userId, String tableId, String lineId, int quantity) {
+        Cart savedCart = cartStore.update(userId, tableId, cart -> {
+            if (cart == null) {
+                throw new RuntimeException("장바구니를 찾을 수 없습니다.");
+            }
+            int index = indexOfLine(cart, lineId);
+            Cart.CartItem item = cart.getItems().get(index);
+
+            cart.getItems().set(index, item.toBuilder().quantity(quantity).build());
+            cart.setTotalPrice(cart.getTotalPrice()
+                    .add(item.getPrice().multiply(BigDecimal.valueOf(quantity - item.getQuantity()))));
+            cart.setUpdatedAt(LocalDateTime.now());
+            return cart;
+        });
+        return convertToDto(savedCart);
+    }
+
+    /**
+     * 장바구니 항목 삭제 (총 가격은 삭제한 항목 금액만큼 감소)
+     */
+    public CartDto removeItem(String userId, String tableId, String lineId) {
+        Cart savedCart = cartStore.update(userId, tableId, cart -> {
+            if (cart == null) {
+                throw new RuntimeException("장바구니를 찾을 수 없습니다.");
+            }
+            Cart.CartItem item = cart.getItems().remove(indexOfLine(cart, lineId));
+
+            cart.setTotalPrice(cart.getTotalPrice()
+                    .subtract(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()))));
+            cart.setUpdatedAt(LocalDateTime.now());
+            return cart;
+        });
         return convertToDto(savedCart);
     }
 
     /**
      * 장바구니 조회
      */
-    @Transactional(readOnly = true)
     public CartDto getCart(String userId, String tableId) {
-        Cart cart = cartRepository.findByUserIdAndTableId(userId, tableId)
-                .orElseThrow(() -> new RuntimeException("장바구니를 찾을 수 없습니다."));
+        Cart cart = cartStore.get(userId, tableId);
+        if (cart == null) {
+            throw new RuntimeException("장바구니를 찾을 수 없습니다.");
+        }
         return convertToDto(cart);
     }
 
     /**
      * 장바구니 비우기
      */
-    @Transactional
     public void clearCart(String userId, String tableId) {
-        cartRepository.deleteByUserIdAndTableId(userId, tableId);
+        cartStore.remove(userId, tableId);
+    }
+
+    private static int indexOfLine(Cart cart, String lineId) {
+        for (int i = 0; i < cart.getItems().size(); i++) {
+            if (cart.getItems().get(i).getLineId().equals(lineId)) {
+                return i;
+            }
+        }
+        throw new RuntimeException("장바구니 항목을 찾을 수 없습니다.");
     }
 
     /**
@@ -131,6 +181,7 @@ public class CartService {
         List<CartDto.CartItemDto> items = cart.getItems() != null
                 ? cart.getItems().stream()
                         .map(item -> CartDto.CartItemDto.builder()
+                                .lineId(item.getLineId())
                                 .menuId(item.getMenuId())
                                 .menuName(item.getMenuName())
                                 .quantity(item.getQuantity())
@@ -0,0 +1,365 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Cart;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 장바구니 메모리 저장소 (사용자 ID + 테이블 ID 기준)
+ *
+ * 장바구니 조회·변경은 메모리의 장바구니만 읽고 쓰며, 변경된 장바구니는 flush 주기마다 마지막 상태만 한 번의 bulk write로
+ * carts에 반영한다(재시작 시 최대 한 주기의 변경이 유실될 수 있음). 처음 조회하는 장바구니만 carts에서 읽고,
+ * 반영이 끝난 장바구니 중 오래 쓰지 않았거나 최대 개수를 넘는 것은 메모리에서 내린다.
+ * carts 저장이 계속 실패해 반영되지 않은 장바구니가 쌓여 최대 개수의 HARD_LIMIT_FACTOR배를 넘으면 새 장바구니는 받지 않는다.
+ * 결제는 take로 장바구니를 꺼내 진행하고, 커밋하면 complete, 실패하면 restore로 끝낸다.
+ * 메모리에서만 판단하므로 InventoryService와 마찬가지로 단일 인스턴스 운영을 전제로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartStore {
+
+    private static final int HARD_LIMIT_FACTOR = 2;
+    private static final int FAILURE_ALERT_INTERVAL = 10;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${cart.store.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${cart.store.idle-minutes:30}")
+    private long idleMinutes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private int consecutiveFlushFailures; // flush 락에서만 변경
+
+    /**
+     * 장바구니 조회 (없으면 null, 반환된 장바구니를 바꿔도 저장소에는 반영되지 않음)
+     */
+    public Cart get(String userId, String tableId) {
+        while (true) {
+            Entry entry = load(userId, tableId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                entry.touch();
+                return copy(entry.cart);
+            }
+        }
+    }
+
+    /**
+     * 장바구니 변경 (현재 장바구니 복사본, 없으면 null을 받아 새 장바구니를 반환, null을 반환하면 삭제)
+     */
+    public Cart update(String userId, String tableId, UnaryOperator<Cart> updater) {
+        while (true) {
+            Entry entry = load(userId, tableId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                Cart updated = updater.apply(copy(entry.cart));
+                if (updated != null && updated.getId() == null) {
+                    updated.setId(entry.id != null ? entry.id : new ObjectId().toHexString());
+                }
+                entry.cart = updated;
+                if (updated != null) {
+                    entry.id = updated.getId();
+                }
+                entry.dirty = true;
+                entry.version++;
+                entry.touch();
+                return copy(updated);
+            }
+        }
+    }
+
+    /**
+     * 장바구니 삭제 (carts에서는 다음 flush 때 삭제)
+     */
+    public void remove(String userId, String tableId) {
+        update(userId, tableId, cart -> null);
+    }
+
+    /**
+     * 결제할 장바구니를 메모리에서 꺼냄 (없으면 null)
+     *
+     * 꺼낸 장바구니는 complete 또는 restore를 호출할 때까지 다시 꺼낼 수 없고 flush에서도 저장·삭제하지 않으므로,
+     * 같은 장바구니로 동시에 결제해도 하나만 진행된다.
+     */
+    public Claim take(String userId, String tableId) {
+        while (true) {
+            Entry entry = load(userId, tableId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                if (entry.cart == null || entry.claimed) {
+                    return null;
+                }
+                Claim claim = new Claim(entry, copy(entry.cart), entry.persisted);
+                entry.cart = null;
+                entry.claimed = true;
+                entry.dirty = true;
+                entry.version++;
+                entry.touch();
+                return claim;
+            }
+        }
+    }
+
+    /**
+     * 결제 커밋 후 호출 (carts 문서는 결제 트랜잭션에서 삭제됨)
+     */
+    public void complete(Claim claim) {
+        Entry entry = claim.entry;
+        synchronized (entry) {
+            entry.claimed = false;
+            entry.persisted = false;
+            // 꺼내기 전에 시작된 flush가 장바구니를 다시 저장했을 수 있으므로 삭제 표시는 남겨 다음 flush에서 한 번 더 삭제
+            entry.dirty = true;
+            entry.touch();
+        }
+    }
+
+    /**
+     * 결제 실패 시 꺼낸 장바구니를 되돌림 (그 사이 새로 담은 항목이 있으면 뒤에 합침)
+     */
+    public void restore(Claim claim) {
+        Entry entry = claim.entry;
+        synchronized (entry) {
+            Cart restored = copy(claim.cart);
+            if (entry.cart != null) {
+                restored.getItems().addAll(entry.cart.getItems());
+                restored.setTotalPrice(restored.getTotalPrice().add(entry.cart.getTotalPrice()));
+                restored.setUpdatedAt(entry.cart.getUpdatedAt());
+            }
+            entry.cart = restored;
+            entry.id = restored.getId();
+            entry.claimed = false;
+            // 트랜잭션 없이 쓰다 실패했으면 carts 문서가 이미 지워졌을 수 있으므로 다음 flush에서 다시 저장
+            entry.persisted = false;
+            entry.dirty = true;
+            entry.version++;
+            entry.touch();
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 한 번의 bulk write로 저장한 뒤 오래 쓰지 않은 장바구니를 메모리에서 내림
+     */
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Entry> flushed = new ArrayList<>();
+        List<Long> versions = new ArrayList<>();
+        List<Boolean> upserts = new ArrayList<>();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Cart.class);
+
+        for (Entry entry : entries.values()) {
+            synchronized (entry) {
+                // 결제 중인 장바구니는 결제가 끝난 뒤 저장
+                if (!entry.dirty || entry.evicted || entry.claimed) {
+                    continue;
+                }
+                if (entry.cart != null) {
+                    operations.replaceOne(Query.query(Criteria.where("_id").is(entry.cart.getId())), copy(entry.cart),
+                            FindAndReplaceOptions.options().upsert());
+                } else if (entry.id != null) {
+                    operations.remove(Query.query(Criteria.where("_id").is(entry.id)));
+                } else {
+                    // 저장된 적 없는 장바구니 삭제
+                    entry.dirty = false;
+                    continue;
+                }
+                flushed.add(entry);
+                versions.add(entry.version);
+                upserts.add(entry.cart != null);
+            }
+        }
+
+        if (!flushed.isEmpty() && execute(operations, flushed.size())) {
+            for (int i = 0; i < flushed.size(); i++) {
+                Entry entry = flushed.get(i);
+                synchronized (entry) {
+                    entry.persisted = upserts.get(i);
+                    // 저장하는 사이에 다시 바뀌었으면 다음 주기에 저장
+                    if (entry.version == versions.get(i)) {
+                        entry.dirty = false;
+                    }
+                }
+            }
+        }
+        // 저장에 실패해도 반영이 끝난 장바구니는 내림
+        evict();
+    }
+
+    /**
+     * bulk write 실행 (실패하면 변경 표시를 남겨 두고 다음 주기에 다시 저장, 연속 실패는 FAILURE_ALERT_INTERVAL회마다 error 로그)
+     */
+    private boolean execute(BulkOperations operations, int count) {
+        try {
+            operations.execute();
+        } catch (RuntimeException e) {
+            consecutiveFlushFailures++;
+            if (consecutiveFlushFailures % FAILURE_ALERT_INTERVAL == 0) {
+                log.error("장바구니 저장이 {}회 연속 실패했습니다 (미반영 {}건, 메모리 {}건): {}",
+                        consecutiveFlushFailures, count, entries.size(), e.getMessage());
+            } else {
+                log.warn("장바구니 저장 실패 ({}건): {}", count, e.getMessage());
+            }
+            return false;
+        }
+        if (consecutiveFlushFailures > 0) {
+            log.info("장바구니 저장 복구 ({}회 연속 실패 후)", consecutiveFlushFailures);
+            consecutiveFlushFailures = 0;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Entry load(String userId, String tableId) {
+        String key = userId + ":" + tableId;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        // 반영되지 않은 장바구니는 내릴 수 없으므로 상한을 넘으면 새 장바구니를 받지 않음
+        if (entries.size() >= (long) maxEntries * HARD_LIMIT_FACTOR) {
+            log.warn("장바구니 메모리 상한 초과로 새 장바구니 거절 ({}건)", entries.size());
+            throw new RuntimeException("장바구니 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // carts 조회는 맵 락 밖에서 (같은 장바구니를 동시에 읽으면 먼저 들어간 쪽을 사용)
+        Cart cart = mongoTemplate.findOne(
+                Query.query(Criteria.where("userId").is(userId).and("tableId").is(tableId)), Cart.class);
+        Entry loaded = new Entry(key, cart);
+        // 항목 ID를 새로 발급했으면 다음 flush 때 carts에도 저장 (메모리에서 내린 뒤 다시 읽어도 ID 유지)
+        loaded.dirty = assignLineIds(cart);
+        Entry existing = entries.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 저장이 끝난 장바구니 중 오래 쓰지 않은 것과 최대 개수를 넘는 것(오래 쓰지 않은 순)을 메모리에서 내림
+     */
+    private void evict() {
+        long idleBefore = System.currentTimeMillis() - idleMinutes * 60_000;
+        int overflow = entries.size() - maxEntries;
+        List<Entry> candidates = new ArrayList<>(entries.values());
+        if (overflow > 0) {
+            candidates.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+        }
+        for (Entry entry : candidates) {
+            synchronized (entry) {
+                if (entry.dirty || (overflow <= 0 && entry.lastAccess >= idleBefore)) {
+                    continue;
+                }
+                entry.evicted = true;
+                entries.remove(entry.key, entry);
+                overflow--;
+            }
+        }
+    }
+
+    /**
+     * 항목 ID가 없는 장바구니 항목에 ID 발급 (항목 ID 도입 전에 저장된 장바구니, 발급했으면 true)
+     */
+    private static boolean assignLineIds(Cart cart) {
+        if (cart == null || cart.getItems() == null
+                || cart.getItems().stream().allMatch(item -> item.getLineId() != null)) {
+            return false;
+        }
+        cart.setItems(cart.getItems().stream()
+                .map(item -> item.getLineId() != null ? item
+                        : item.toBuilder().lineId(new ObjectId().toHexString()).build())
+                .toList());
+        return true;
+    }
+
+    private static Cart copy(Cart cart) {
+        if (cart == null) {
+            return null;
+        }
+        // 장바구니 항목은 만든 뒤 바꾸지 않으므로 목록만 복사
+        return Cart.builder()
+                .id(cart.getId())
+                .userId(cart.getUserId())
+                .tableId(cart.getTableId())
+                .tableNumber(cart.getTableNumber())
+                .items(cart.getItems() != null ? new ArrayList<>(cart.getItems()) : new ArrayList<>())
+                .totalPrice(cart.getTotalPrice())
+                .createdAt(cart.getCreatedAt())
+                .updatedAt(cart.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 결제를 위해 꺼낸 장바구니 (persisted면 꺼낼 때 carts에 저장되어 있던 장바구니)
+     */
+    public static final class Claim {
+        private final Entry entry;
+        private final Cart cart;
+        private final boolean persisted;
+
+        private Claim(Entry entry, Cart cart, boolean persisted) {
+            this.entry = entry;
+            this.cart = cart;
+            this.persisted = persisted;
+        }
+
+        public Cart getCart() {
+            return copy(cart);
+        }
+
+        public boolean isPersisted() {
+            return persisted;
+        }
+    }
+
+    /**
+     * 장바구니 하나의 메모리 상태 (cart가 null이면 장바구니 없음, 변경은 entry 락에서만)
+     */
+    private static final class Entry {
+        private final String key;
+        private Cart cart;
+        private String id; // 삭제 시 carts에서 지울 문서 ID
+        private boolean dirty;
+        private boolean persisted; // carts에 문서가 있는지 (마지막 조회·flush 기준)
+        private boolean claimed; // 결제 중
+        private long version;
+        private boolean evicted;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private Entry(String key, Cart cart) {
+            this.key = key;
+            this.cart = cart;
+            this.id = cart != null ? cart.getId() : null;
+            this.persisted = cart != null;
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+    }
+}
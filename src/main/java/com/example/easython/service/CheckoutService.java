@@ -0,0 +1,202 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Cart;
+import com.example.easython.domain.Order;
+import com.example.easython.domain.Payment;
+import com.example.easython.domain.Table;
+import com.example.easython.dto.PaymentRequestDto;
+import com.example.easython.repository.TableRepository;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 파이프라인 (장바구니 → 결제 완료 주문 생성 → 결제 저장 → 테이블 점유 → 장바구니 삭제)
+ *
+ * 이미 읽은 테이블/장바구니 문서를 재사용하고, 주문은 PAYED 상태로 한 번만 저장한다.
+ * 쓰기 4건은 하나의 MongoDB 다중 문서 트랜잭션으로 커밋한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckoutService {
+
+    private final TableRepository tableRepository;
+    private final CartStore cartStore;
+    private final OrderService orderService;
+    private final PickupNumberAllocator pickupNumberAllocator;
+    private final InventoryService inventoryService;
+    private final AdmissionControlService admissionControlService;
+    private final MongoTemplate mongoTemplate;
+    private final MongoClient mongoClient;
+
+    // 레플리카셋이 아닌 단독 MongoDB 서버에서는 트랜잭션을 지원하지 않으므로 false로 설정
+    @Value("${checkout.transaction.enabled:true}")
+    private boolean transactionEnabled;
+
+    /**
+     * 장바구니 결제 처리
+     */
+    public Payment checkout(String userId, PaymentRequestDto request) {
+        // 테이블 조회
+        Table table = tableRepository.findById(request.getTableId())
+                .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
+
+        // 주방 대기 주문이 많으면 결제를 진행하지 않고 거절
+        admissionControlService.checkAdmission(table.getRestaurantName());
+
+        // 장바구니를 메모리에서 꺼내 같은 장바구니의 동시 결제를 막음 (실패하면 되돌림)
+        CartStore.Claim claim = cartStore.take(userId, request.getTableId());
+        if (claim == null) {
+            throw new RuntimeException("장바구니를 찾을 수 없습니다.");
+        }
+
+        Paid paid;
+        try {
+            paid = pay(userId, request, table, claim.getCart(), claim.isPersisted());
+        } catch (RuntimeException e) {
+            cartStore.restore(claim);
+            throw e;
+        }
+
+        // 결제된 장바구니는 메모리에서도 삭제 (아직 저장되지 않은 변경이 다시 저장되지 않도록)
+        cartStore.complete(claim);
+
+        Order order = paid.order();
+        orderService.publish(order);
+
+        // 주문 이력은 통계용이므로 결제 커밋 이후 반영 (실패해도 결제는 유지)
+        try {
+            orderService.updateOrderHistory(userId, order.getItems());
+        } catch (RuntimeException e) {
+            log.warn("주문 이력 업데이트 실패 (주문 ID: {}): {}", order.getId(), e.getMessage());
+        }
+
+        return paid.payment();
+    }
+
+    /**
+     * 꺼낸 장바구니로 주문·결제를 만들어 커밋 (실패하면 재고 예약을 되돌리고 예외)
+     */
+    private Paid pay(String userId, PaymentRequestDto request, Table table, Cart cart, boolean cartPersisted) {
+        if (cart.getItems() == null || cart.getItems().isEmpty()) {
+            throw new RuntimeException("장바구니가 비어있습니다.");
+        }
+
+        // 장바구니 금액 검증
+        if (cart.getTotalPrice().compareTo(request.getAmount()) != 0) {
+            throw new RuntimeException("결제 금액이 장바구니 총 금액과 일치하지 않습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 결제 완료 상태의 주문 생성 (ID를 미리 발급하여 결제와 함께 저장)
+        List<Order.OrderItem> orderItems = cart.getItems().stream()
+                .map(cartItem -> Order.OrderItem.builder()
+                        .menuId(cartItem.getMenuId())
+                        .menuName(cartItem.getMenuName())
+                        .quantity(cartItem.getQuantity())
+                        .price(cartItem.getPrice())
+                        .spicinessLevel(cartItem.getSpicinessLevel())
+                        .riceAmount(cartItem.getRiceAmount())
+                        .additionalOptions(cartItem.getAdditionalOptions())
+                        .comment(cartItem.getComment())
+                        .build())
+                .collect(Collectors.toList());
+
+        Order order = Order.builder()
+                .id(new ObjectId().toHexString())
+                .userId(userId)
+                .tableId(table.getId())
+                .tableNumber(table.getTableNumber())
+                .restaurantName(table.getRestaurantName())
+                .pickupNumber(pickupNumberAllocator.allocate(table.getRestaurantName()))
+                .items(orderItems)
+                .totalPrice(cart.getTotalPrice())
+                .status(Order.OrderStatus.PAYED)
+                .orderedAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        Payment payment = Payment.builder()
+                .id(new ObjectId().toHexString())
+                .orderId(order.getId())
+                .userId(userId)
+                .tableId(table.getId())
+                .amount(request.getAmount())
+                .paymentMethod(request.getPaymentMethod())
+                .status(Payment.PaymentStatus.COMPLETED)
+                .paidAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        // 메뉴별 재고 예약 (저장에 실패하면 되돌림)
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (Order.OrderItem item : orderItems) {
+            quantities.merge(item.getMenuId(), item.getQuantity(), Integer::sum);
+        }
+        InventoryService.Reservation reservation = inventoryService.reserve(quantities);
+
+        try {
+            if (transactionEnabled) {
+                try (ClientSession session = mongoClient.startSession()) {
+                    session.withTransaction(() -> {
+                        writeCheckout(mongoTemplate.withSession(session), order, payment, table, cart, cartPersisted,
+                                now);
+                        return null;
+                    });
+                }
+            } else {
+                writeCheckout(mongoTemplate, order, payment, table, cart, cartPersisted, now);
+            }
+        } catch (RuntimeException e) {
+            reservation.release();
+            throw e;
+        }
+        return new Paid(order, payment);
+    }
+
+    /**
+     * 결제 관련 쓰기 (장바구니 삭제, 주문 저장, 결제 저장, 테이블 점유)
+     *
+     * carts에 저장되어 있던 장바구니를 지우지 못하면 이미 다른 결제가 가져간 것이므로 예외로 트랜잭션을 중단한다.
+     */
+    private void writeCheckout(MongoTemplate template, Order order, Payment payment, Table table, Cart cart,
+                               boolean cartPersisted, LocalDateTime now) {
+        long deleted = template.remove(Query.query(Criteria.where("_id").is(cart.getId())), Cart.class)
+                .getDeletedCount();
+        if (cartPersisted && deleted != 1) {
+            throw new RuntimeException("이미 결제된 장바구니입니다.");
+        }
+
+        template.insert(order);
+        template.insert(payment);
+
+        // 테이블 상태를 이용 중으로 변경 (이미 점유된 테이블이면 생략)
+        if (!Boolean.FALSE.equals(table.getIsAvailable())) {
+            template.updateFirst(
+                    Query.query(Criteria.where("_id").is(table.getId())),
+                    new Update().set("isAvailable", false).set("updatedAt", now),
+                    Table.class);
+        }
+    }
+
+    private record Paid(Order order, Payment payment) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.easython.service;
+
+/**
+ * 미리 계산해 둔 강한 ETag와 If-None-Match 헤더 비교
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * If-None-Match 헤더의 태그 중 하나가 "*"이거나 주어진 ETag 중 하나와 일치하는지 확인 (W/ 접두사는 무시)
+     */
+    static boolean matches(String ifNoneMatch, String... etags) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*")) {
+                return true;
+            }
+            for (String etag : etags) {
+                if (candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.IdempotencyRecord;
+import com.example.easython.exception.RequestInProgressException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 방지
+ *
+ * 같은 키의 요청은 처리 결과를 재사용한다. 인스턴스 내 동시 요청은 먼저 들어온 요청의 완료를 기다리고,
+ * 인스턴스 간 중복은 idempotency_keys 컬렉션(_id 유일, 하루 TTL)에 먼저 예약한 쪽만 실행하며 나머지는 기록이 완료될 때까지 기다린다.
+ * 실패한 요청은 예약을 지우므로 같은 키로 다시 시도할 수 있고, 예약한 인스턴스가 끝내지 못한 채 리스(leaseUntil)가 지나면
+ * 다음 요청이 조건부 findAndModify로 예약을 이어받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+    private static final long WAIT_SECONDS = 30;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final long MIN_POLL_MILLIS = 50;
+    private static final long MAX_POLL_MILLIS = 1_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 인스턴스 내 처리 중이거나 최근 완료된 요청
+    private final Map<String, LocalEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 키가 있으면 한 번만 실행하고 이후 같은 키의 요청에는 저장된 결과 반환 (키가 없으면 그대로 실행)
+     */
+    public <T> T execute(String scope, String userId, String idempotencyKey, Object request,
+                         Class<T> type, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String id = scope + ":" + userId + ":" + idempotencyKey.trim();
+        String requestHash = hash(request);
+
+        while (true) {
+            LocalEntry entry = new LocalEntry(requestHash);
+            LocalEntry existing = entries.putIfAbsent(id, entry);
+            if (existing == null) {
+                return runOnce(id, entry, type, action);
+            }
+
+            if (!existing.requestHash.equals(requestHash)) {
+                throw new RuntimeException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+
+            // 먼저 들어온 요청의 완료를 기다림 (실패했으면 다시 시도)
+            Object result = await(existing);
+            if (result != null) {
+                return type.cast(result);
+            }
+        }
+    }
+
+    /**
+     * 오래된 로컬 완료 항목 정리 (DB 기록은 TTL 인덱스로 정리)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - LOCAL_TTL.toMillis();
+        entries.values().removeIf(entry -> entry.completedBefore(threshold));
+    }
+
+    private <T> T runOnce(String id, LocalEntry entry, Class<T> type, Supplier<T> action) {
+        boolean reserved = false;
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(LEASE).truncatedTo(ChronoUnit.MILLIS);
+        try {
+            T result = replayStored(id, entry.requestHash, type, leaseUntil);
+            if (result == null) {
+                reserved = true;
+                result = action.get();
+                saveResponse(id, result);
+            }
+            entry.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            if (reserved) {
+                release(id, leaseUntil);
+            }
+            entries.remove(id, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 키 예약 (이미 처리된 키면 저장된 결과 반환, 새로 예약했거나 리스가 지난 예약을 이어받았으면 null)
+     *
+     * 다른 인스턴스가 리스를 잡고 처리 중이면 완료되거나 리스가 지날 때까지 간격을 늘려가며 다시 읽고,
+     * WAIT_SECONDS 안에 끝나지 않으면 RequestInProgressException(409)으로 재시도를 요청한다.
+     */
+    private <T> T replayStored(String id, String requestHash, Class<T> type, LocalDateTime leaseUntil) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_SECONDS);
+        long pollMillis = MIN_POLL_MILLIS;
+        while (true) {
+            if (reserve(id, requestHash, leaseUntil)) {
+                return null;
+            }
+            IdempotencyRecord stored = mongoTemplate.findById(id, IdempotencyRecord.class);
+            if (stored != null) {
+                if (!requestHash.equals(stored.getRequestHash())) {
+                    throw new RuntimeException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+                }
+                if (stored.getStatus() == IdempotencyRecord.IdempotencyStatus.COMPLETED) {
+                    try {
+                        return objectMapper.readValue(stored.getResponse(), type);
+                    } catch (JsonProcessingException ex) {
+                        throw new RuntimeException("저장된 응답을 읽을 수 없습니다.", ex);
+                    }
+                }
+                if (leaseExpired(stored) && takeOver(id, stored, leaseUntil)) {
+                    return null;
+                }
+            }
+
+            // 먼저 예약한 요청이 실패해 예약이 지워졌으면 바로 다시 예약, 처리 중이면 잠시 후 다시 읽음
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new RequestInProgressException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.",
+                        retryAfterSeconds(stored));
+            }
+            if (stored != null) {
+                sleep(Math.min(pollMillis, remaining));
+                pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 처리 중 예약 생성 (이미 같은 키의 기록이 있으면 false)
+     */
+    private boolean reserve(String id, String requestHash, LocalDateTime leaseUntil) {
+        try {
+            mongoTemplate.insert(IdempotencyRecord.builder()
+                    .id(id)
+                    .requestHash(requestHash)
+                    .status(IdempotencyRecord.IdempotencyStatus.PROCESSING)
+                    .leaseUntil(leaseUntil)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static boolean leaseExpired(IdempotencyRecord stored) {
+        return stored.getLeaseUntil() == null || !stored.getLeaseUntil().isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 리스가 지난 처리 중 예약을 이어받음 (읽은 리스 그대로일 때만 바꾸므로 동시에 이어받으려는 요청 중 하나만 성공)
+     */
+    private boolean takeOver(String id, IdempotencyRecord stored, LocalDateTime leaseUntil) {
+        IdempotencyRecord taken = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id)
+                        .and("status").is(IdempotencyRecord.IdempotencyStatus.PROCESSING)
+                        .and("leaseUntil").is(stored.getLeaseUntil())),
+                new Update().set("leaseUntil", leaseUntil),
+                IdempotencyRecord.class);
+        if (taken == null) {
+            return false;
+        }
+        log.info("만료된 Idempotency 예약 이어받음 ({})", id);
+        return true;
+    }
+
+    /**
+     * 재시도 권장 시간 (처리 중인 예약의 남은 리스, 최대 WAIT_SECONDS)
+     */
+    private static long retryAfterSeconds(IdempotencyRecord stored) {
+        if (stored == null || stored.getLeaseUntil() == null) {
+            return 1;
+        }
+        long seconds = Duration.between(LocalDateTime.now(), stored.getLeaseUntil()).toSeconds();
+        return Math.max(1, Math.min(seconds, WAIT_SECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 실패한 요청의 예약 삭제 (리스가 지나 다른 요청이 이어받았으면 그대로 둠, 삭제에 실패해도 리스가 지나면 이어받을 수 있음)
+     */
+    private void release(String id, LocalDateTime leaseUntil) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(id)
+                            .and("status").is(IdempotencyRecord.IdempotencyStatus.PROCESSING)
+                            .and("leaseUntil").is(leaseUntil)),
+                    IdempotencyRecord.class);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 예약 삭제 실패 ({}): {}", id, e.getMessage());
+        }
+    }
+
+    private void saveResponse(String id, Object result) {
+        // 결과 저장에 실패해도 요청은 이미 처리되었으므로 로컬 항목으로만 재사용
+        try {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(id)),
+                    new Update()
+                            .set("status", IdempotencyRecord.IdempotencyStatus.COMPLETED)
+                            .set("response", objectMapper.writeValueAsString(result))
+                            .set("completedAt", LocalDateTime.now()),
+                    IdempotencyRecord.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Idempotency 응답 저장 실패 ({}): {}", id, e.getMessage());
+        }
+    }
+
+    private Object await(LocalEntry entry) {
+        try {
+            return entry.future.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new RequestInProgressException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private String hash(Object request) {
+        if (request == null) {
+            return "";
+        }
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("요청을 처리할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 인스턴스 내 요청 항목 (처리 결과를 기다리는 Future와 완료 시각)
+     */
+    private static final class LocalEntry {
+        private final String requestHash;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private LocalEntry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        void complete(Object result) {
+            completedAt = System.currentTimeMillis();
+            future.complete(result);
+        }
+
+        boolean completedBefore(long threshold) {
+            long completed = completedAt;
+            return completed != 0 && completed < threshold;
+        }
+    }
+}
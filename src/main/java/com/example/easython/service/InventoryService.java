@@ -0,0 +1,300 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Menu;
+import com.example.easython.dto.MenuDto;
+import com.example.easython.dto.MenuStockDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메뉴별 일일 재고 관리
+ *
+ * 결제 시 메뉴별 메모리 카운터에서 CAS로 수량을 예약하므로 인기 메뉴도 하나의 재고 문서에 요청이 몰리지 않는다.
+ * 판매 수량은 FLUSH_INTERVAL_MILLIS마다 bulk write로 menus에 반영하고, 재고가 모두 팔리면 오늘 날짜로
+ * 품절 처리한 뒤 메뉴 카탈로그를 갱신한다. 예약은 인스턴스 메모리에서만 판단하므로 단일 인스턴스 운영을 전제로 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryService {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final MenuCatalog menuCatalog;
+
+    private final Map<String, Stock> stocks = new ConcurrentHashMap<>();
+    // 날짜가 바뀌어 교체된 카운터 (남은 판매 수량을 반영한 뒤 제거)
+    private final Queue<Stock> retired = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 메뉴별 수량 예약 (하나라도 재고가 부족하면 전체 취소 후 예외)
+     */
+    public Reservation reserve(Map<String, Integer> quantities) {
+        Reservation reservation = new Reservation();
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            Stock stock = stockOf(entry.getKey());
+            if (stock == null) {
+                continue;
+            }
+            if (!stock.tryReserve(entry.getValue())) {
+                reservation.release();
+                throw new RuntimeException("품절되었거나 재고가 부족한 메뉴입니다: " + stock.menuName);
+            }
+            reservation.add(stock, entry.getValue());
+        }
+        return reservation;
+    }
+
+    /**
+     * 메뉴 재고 현황 (메모리 기준, 아직 반영되지 않은 판매 수량 포함)
+     */
+    public MenuStockDto getStock(String menuId) {
+        MenuDto menu = menuCatalog.resolve(List.of(menuId)).get(menuId);
+        Stock stock = stockOf(menuId);
+        if (stock == null) {
+            return MenuStockDto.builder()
+                    .menuId(menuId)
+                    .menuName(menu.getName())
+                    .soldToday(soldSoFar(menuId, LocalDate.now()))
+                    .soldOut(false)
+                    .build();
+        }
+        int sold = stock.sold.get();
+        return MenuStockDto.builder()
+                .menuId(menuId)
+                .menuName(menu.getName())
+                .dailyStock(stock.limit)
+                .soldToday(sold)
+                .remainingStock(Math.max(0, stock.limit - sold))
+                .soldOut(sold >= stock.limit)
+                .build();
+    }
+
+    /**
+     * 일일 재고 변경 (null이면 제한 해제)
+     */
+    public synchronized MenuStockDto setDailyStock(String menuId, Integer dailyStock) {
+        menuCatalog.resolve(List.of(menuId));
+        LocalDate today = LocalDate.now();
+        Stock stock = stockOf(menuId);
+        int sold = stock != null ? stock.sold.get() : 0;
+        boolean soldOut = dailyStock != null && sold >= dailyStock;
+
+        Update update = dailyStock != null ? new Update().set("dailyStock", dailyStock) : new Update().unset("dailyStock");
+        if (soldOut) {
+            update.set("soldOutDate", today);
+        } else {
+            update.unset("soldOutDate");
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(menuId)),
+                update.set("updatedAt", LocalDateTime.now()), Menu.class);
+
+        if (dailyStock == null) {
+            stocks.remove(menuId);
+            if (stock != null) {
+                retired.add(stock);
+            }
+        } else if (stock != null) {
+            stock.limit = dailyStock;
+            stock.flushedSoldOut = soldOut;
+        }
+        menuCatalog.refresh(menuId);
+        return getStock(menuId);
+    }
+
+    /**
+     * 반영되지 않은 판매 수량과 품절 상태를 한 번의 bulk write로 저장
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        LocalDate today = LocalDate.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Menu.class);
+        int operationCount = 0;
+        boolean soldOutChanged = false;
+
+        List<Stock> targets = new ArrayList<>(stocks.values());
+        for (Iterator<Stock> iterator = retired.iterator(); iterator.hasNext(); ) {
+            Stock stock = iterator.next();
+            targets.add(stock);
+            if (stock.unflushed.sum() == 0) {
+                iterator.remove();
+            }
+        }
+
+        for (Stock stock : targets) {
+            int delta = (int) stock.unflushed.sumThenReset();
+            boolean current = stock.date.equals(today) && stocks.get(stock.menuId) == stock;
+            boolean soldOut = current && stock.sold.get() >= stock.limit;
+            boolean soldOutUpdate = current && soldOut != stock.flushedSoldOut;
+            if (delta == 0 && !soldOutUpdate) {
+                continue;
+            }
+
+            Update sameDay = new Update().inc("soldToday", delta);
+            Update newDay = new Update().set("stockDate", stock.date).set("soldToday", Math.max(0, delta));
+            if (soldOutUpdate) {
+                if (soldOut) {
+                    sameDay.set("soldOutDate", stock.date);
+                    newDay.set("soldOutDate", stock.date);
+                } else {
+                    sameDay.unset("soldOutDate");
+                    newDay.unset("soldOutDate");
+                }
+                stock.flushedSoldOut = soldOut;
+                soldOutChanged = true;
+            }
+
+            // 같은 날짜면 누적, 저장된 날짜가 더 이전이면 새 날짜로 초기화 (순서대로 실행되어 둘 중 하나만 적용)
+            operations.updateOne(Query.query(Criteria.where("_id").is(stock.menuId).and("stockDate").is(stock.date)),
+                    sameDay);
+            operations.updateOne(Query.query(Criteria.where("_id").is(stock.menuId).orOperator(
+                    Criteria.where("stockDate").lt(stock.date),
+                    Criteria.where("stockDate").exists(false))), newDay);
+            operationCount += 2;
+        }
+
+        if (operationCount == 0) {
+            return;
+        }
+        operations.execute();
+        if (soldOutChanged) {
+            menuCatalog.refresh();
+        }
+    }
+
+    /**
+     * 날짜가 바뀌면 전날 품절 표시가 풀리도록 카탈로그 재구성
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void startNewDay() {
+        flush();
+        menuCatalog.refresh();
+    }
+
+    /**
+     * 메뉴별 오늘 재고 카운터 (재고 제한이 없으면 null)
+     */
+    private Stock stockOf(String menuId) {
+        LocalDate today = LocalDate.now();
+        Stock stock = stocks.get(menuId);
+        if (stock != null && stock.date.equals(today)) {
+            return stock;
+        }
+
+        MenuDto menu = menuCatalog.current().menusById().get(menuId);
+        if (menu == null || menu.getDailyStock() == null) {
+            return null;
+        }
+        // DB 조회는 compute 밖에서 (compute 중에는 같은 키의 다른 갱신이 막힘)
+        int sold = soldSoFar(menuId, today);
+        return stocks.compute(menuId, (id, existing) -> {
+            if (existing != null && existing.date.equals(today)) {
+                return existing;
+            }
+            if (existing != null) {
+                retired.add(existing);
+            }
+            return new Stock(menuId, menu.getName(), today, menu.getDailyStock(), sold);
+        });
+    }
+
+    /**
+     * 오늘 판매 수량 (DB에 반영된 수량 + 교체된 카운터의 아직 반영되지 않은 수량)
+     *
+     * 카탈로그의 수량은 품절 전환이나 메뉴 저장 때만 갱신되어 늦으므로 DB에서 읽는다.
+     * flush와 같은 락에서 읽어 DB 반영과 미반영 수량이 이중으로 집계되거나 빠지지 않게 한다.
+     */
+    private synchronized int soldSoFar(String menuId, LocalDate date) {
+        Query query = Query.query(Criteria.where("_id").is(menuId).and("stockDate").is(date));
+        query.fields().include("soldToday");
+        Menu menu = mongoTemplate.findOne(query, Menu.class);
+        long sold = menu != null && menu.getSoldToday() != null ? menu.getSoldToday() : 0;
+        for (Stock stock : retired) {
+            if (stock.menuId.equals(menuId) && stock.date.equals(date)) {
+                sold += stock.unflushed.sum();
+            }
+        }
+        return (int) Math.max(0, sold);
+    }
+
+    /**
+     * 결제 한 건의 재고 예약 (결제 저장 실패 시 release로 되돌림)
+     */
+    public static final class Reservation {
+        private final List<Stock> stocks = new ArrayList<>();
+        private final List<Integer> quantities = new ArrayList<>();
+
+        private void add(Stock stock, int quantity) {
+            stocks.add(stock);
+            quantities.add(quantity);
+        }
+
+        public void release() {
+            for (int i = 0; i < stocks.size(); i++) {
+                stocks.get(i).release(quantities.get(i));
+            }
+            stocks.clear();
+            quantities.clear();
+        }
+    }
+
+    /**
+     * 메뉴 하나의 하루 재고 카운터
+     */
+    private static final class Stock {
+        private final String menuId;
+        private final String menuName;
+        private final LocalDate date;
+        private final AtomicInteger sold; // 예약 포함 판매 수량
+        private final LongAdder unflushed = new LongAdder(); // 아직 DB에 반영되지 않은 판매 수량
+        private volatile int limit;
+        private volatile boolean flushedSoldOut;
+
+        private Stock(String menuId, String menuName, LocalDate date, int limit, int sold) {
+            this.menuId = menuId;
+            this.menuName = menuName;
+            this.date = date;
+            this.limit = limit;
+            this.sold = new AtomicInteger(sold);
+            this.flushedSoldOut = sold >= limit;
+        }
+
+        boolean tryReserve(int quantity) {
+            while (true) {
+                int current = sold.get();
+                if (current + quantity > limit) {
+                    return false;
+                }
+                if (sold.compareAndSet(current, current + quantity)) {
+                    unflushed.add(quantity);
+                    return true;
+                }
+            }
+        }
+
+        void release(int quantity) {
+            sold.addAndGet(-quantity);
+            unflushed.add(-quantity);
+        }
+    }
+}
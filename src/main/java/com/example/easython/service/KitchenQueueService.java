@@ -0,0 +1,156 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.domain.Table;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.repository.TableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가게별 주방 대기열 (결제 완료 → 조리 중 → 준비 완료 주문을 메모리에 유지하고 변경분을 SSE로 전송)
+ *
+ * 시작 시 진행 중인 주문을 한 번 읽고, 이후에는 주문 변경 이벤트로만 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KitchenQueueService {
+
+    private static final Set<Order.OrderStatus> ACTIVE_STATUSES = EnumSet.of(
+            Order.OrderStatus.PAYED,
+            Order.OrderStatus.CONFIRMED,
+            Order.OrderStatus.PREPARING,
+            Order.OrderStatus.READY);
+    private static final String TOPIC_PREFIX = "kitchen:";
+    private static final String UNKNOWN_RESTAURANT = "";
+
+    private final MongoTemplate mongoTemplate;
+    private final TableRepository tableRepository;
+    private final SseHub sseHub;
+
+    // 가게 이름 → (주문 ID → 주문)
+    private final Map<String, Map<String, OrderDto>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 진행 중인 주문으로 대기열 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Order> orders = mongoTemplate.find(
+                Query.query(Criteria.where("status").in(ACTIVE_STATUSES)), Order.class);
+
+        // 가게 이름이 없는 기존 주문은 테이블에서 가게 이름 보완
+        Set<String> tableIds = orders.stream()
+                .filter(order -> order.getRestaurantName() == null && order.getTableId() != null)
+                .map(Order::getTableId)
+                .collect(Collectors.toSet());
+        Map<String, String> restaurantByTable = tableIds.isEmpty() ? Map.of() : tableRepository.findAllById(tableIds)
+                .stream()
+                .filter(table -> table.getRestaurantName() != null)
+                .collect(Collectors.toMap(Table::getId, Table::getRestaurantName));
+
+        for (Order order : orders) {
+            if (order.getRestaurantName() == null) {
+                order.setRestaurantName(restaurantByTable.get(order.getTableId()));
+            }
+            OrderDto orderDto = OrderService.toDto(order);
+            // 시작 중에 이미 이벤트로 반영된 주문은 덮어쓰지 않음
+            queueOf(orderDto.getRestaurantName()).putIfAbsent(orderDto.getId(), orderDto);
+        }
+        log.info("주방 대기열 구성 완료 (진행 중 주문 {}건)", orders.size());
+    }
+
+    /**
+     * 주문 변경 반영 (진행 중이면 추가/갱신, 완료·취소면 제거) 후 구독 중인 주방 화면에 전송
+     */
+    @EventListener
+    @org.springframework.core.annotation.Order(Ordered.HIGHEST_PRECEDENCE) // 대기열을 읽는 다른 리스너보다 먼저 반영
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderDto order = event.order();
+        String restaurantName = Objects.requireNonNullElse(order.getRestaurantName(), UNKNOWN_RESTAURANT);
+
+        if (ACTIVE_STATUSES.contains(order.getStatus())) {
+            queueOf(restaurantName).put(order.getId(), order);
+        } else {
+            Map<String, OrderDto> queue = queues.get(restaurantName);
+            if (queue == null || queue.remove(order.getId()) == null) {
+                return;
+            }
+        }
+        sseHub.publish(TOPIC_PREFIX + restaurantName, "order", order);
+    }
+
+    /**
+     * 가게별 진행 중 주문 목록 (주문 시간 순)
+     */
+    public List<OrderDto> getQueue(String restaurantName) {
+        Map<String, OrderDto> queue = queues.get(Objects.requireNonNullElse(restaurantName, UNKNOWN_RESTAURANT));
+        if (queue == null) {
+            return List.of();
+        }
+        return queue.values().stream()
+                .sorted(Comparator.comparing(OrderDto::getOrderedAt, Comparator.nullsLast(LocalDateTime::compareTo)))
+                .toList();
+    }
+
+    /**
+     * 진행 중인 주문 ID로 조회 (대기열에 없으면 null)
+     */
+    public OrderDto findActive(String orderId) {
+        for (Map<String, OrderDto> queue : queues.values()) {
+            OrderDto order = queue.get(orderId);
+            if (order != null) {
+                return order;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 가게별 조리 대기 주문 수 (준비 완료 주문 제외)
+     */
+    public int getBacklog(String restaurantName) {
+        Map<String, OrderDto> queue = queues.get(Objects.requireNonNullElse(restaurantName, UNKNOWN_RESTAURANT));
+        if (queue == null) {
+            return 0;
+        }
+        int backlog = 0;
+        for (OrderDto order : queue.values()) {
+            if (order.getStatus() != Order.OrderStatus.READY) {
+                backlog++;
+            }
+        }
+        return backlog;
+    }
+
+    /**
+     * 가게별 주방 대기열 구독 (처음에 전체 목록을 "queue" 이벤트로, 이후 변경된 주문을 "order" 이벤트로 전송)
+     */
+    public SseEmitter subscribe(String restaurantName) {
+        return sseHub.subscribe(TOPIC_PREFIX + restaurantName, "queue", () -> getQueue(restaurantName));
+    }
+
+    private Map<String, OrderDto> queueOf(String restaurantName) {
+        return queues.computeIfAbsent(Objects.requireNonNullElse(restaurantName, UNKNOWN_RESTAURANT),
+                name -> new ConcurrentHashMap<>());
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.example.easython.domain.AllergenDictionary;
 import com.example.easython.domain.ChatMessage;
 import com.example.easython.domain.User;
 import com.example.easython.dto.MenuDto;
@@ -328,18 +329,16 @@ public class LlmApiService {
             if (userAllergies != null && !userAllergies.isEmpty()) {
                 // 특정 메뉴에 대한 알레르기 확인
                 if (lowerMessage.contains("메뉴") || lowerMessage.contains("이거") || lowerMessage.contains("이것")) {
+                    long userAllergenMask = AllergenDictionary.encode(userAllergies);
                     // 메뉴 이름 추출 시도 (간단한 예시)
                     if (allMenus != null) {
                         for (MenuDto menu : allMenus) {
                             if (menu != null && menu.getName() != null && lowerMessage.contains(menu.getName().toLowerCase())) {
                                 List<String> menuAllergies = menu.getAllergyIngredients();
                                 if (menuAllergies != null) {
-                                    List<String> matchingAllergies = new ArrayList<>();
-                                    for (String allergy : userAllergies) {
-                                        if (menuAllergies.contains(allergy)) {
-                                            matchingAllergies.add(allergy);
-                                        }
-                                    }
+                                    List<String> matchingAllergies = (menu.getAllergenMask() & userAllergenMask) != 0L
+                                            ? AllergenDictionary.matching(userAllergies, menuAllergies)
+                                            : List.of();
                                     if (!matchingAllergies.isEmpty()) {
                                         return String.format("네, %s 메뉴에는 당신의 알레르기 유발성분인 '%s'이(가) 포함되어 있습니다. 주문 시 주의하시기 바랍니다.", 
                                                 menu.getName(), String.join(", ", matchingAllergies));
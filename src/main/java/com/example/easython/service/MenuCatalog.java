@@ -0,0 +1,283 @@
+package com.example.easython.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.easython.domain.AllergenDictionary;
+import com.example.easython.domain.Menu;
+import com.example.easython.dto.MenuCatalogStatsDto;
+import com.example.easython.dto.MenuDto;
+import com.example.easython.repository.MenuRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메뉴 카탈로그 스냅샷 (메뉴 변경 시에만 재구성, 조회는 락 없이 메모리에서 처리)
+ *
+ * 스냅샷에 담긴 MenuDto는 여러 요청이 공유하므로 수정하지 말고 toBuilder()로 복사해서 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalog {
+
+    private final MenuRepository menuRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private final AtomicLong lastRebuildMillis = new AtomicLong();
+
+    /**
+     * 애플리케이션 시작 시 스냅샷 미리 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 현재 스냅샷 조회
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            hitCount.increment();
+            return current;
+        }
+        missCount.increment();
+        return loadIfAbsent();
+    }
+
+    /**
+     * 전체 메뉴를 다시 읽어 스냅샷 재구성
+     */
+    public synchronized Snapshot refresh() {
+        long startedAt = System.nanoTime();
+        List<MenuDto> menus = menuRepository.findAll().stream()
+                .map(MenuCatalog::toDto)
+                .toList();
+        return publish(menus, startedAt);
+    }
+
+    /**
+     * 저장된 메뉴 한 건만 반영하여 스냅샷 재구성 (DB 조회 없음)
+     */
+    public synchronized Snapshot refresh(Menu menu) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return refresh();
+        }
+        long startedAt = System.nanoTime();
+        Map<String, MenuDto> menusById = new LinkedHashMap<>(current.menusById());
+        menusById.put(menu.getId(), toDto(menu));
+        return publish(menusById.values(), startedAt);
+    }
+
+    /**
+     * 메뉴 한 건을 DB에서 다시 읽어 스냅샷에 반영
+     */
+    public synchronized Snapshot refresh(String menuId) {
+        return menuRepository.findById(menuId)
+                .map(this::refresh)
+                .orElseGet(this::refresh);
+    }
+
+    /**
+     * 메뉴 ID 목록을 한 번에 조회 (스냅샷 우선, 없는 ID만 findAllById 한 번으로 조회)
+     *
+     * 찾을 수 없는 ID가 하나라도 있으면 전체 목록을 담아 예외를 던진다.
+     */
+    public Map<String, MenuDto> resolve(Collection<String> menuIds) {
+        Snapshot current = current();
+        Map<String, MenuDto> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String menuId : menuIds) {
+            MenuDto menu = menuId != null ? current.menusById().get(menuId) : null;
+            if (menu != null) {
+                resolved.put(menuId, menu);
+            } else {
+                missing.add(menuId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        // 스냅샷 이후 추가된 메뉴일 수 있으므로 DB에서 한 번 더 확인
+        List<String> lookupIds = missing.stream().filter(Objects::nonNull).toList();
+        List<Menu> found = lookupIds.isEmpty() ? List.of() : menuRepository.findAllById(lookupIds);
+        for (Menu menu : found) {
+            resolved.put(menu.getId(), toDto(menu));
+            missing.remove(menu.getId());
+        }
+        if (!found.isEmpty()) {
+            merge(found);
+        }
+
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("메뉴를 찾을 수 없습니다: " + missing.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", ")));
+        }
+        return resolved;
+    }
+
+    /**
+     * 카탈로그 캐시 통계 조회
+     */
+    public MenuCatalogStatsDto getStats() {
+        Snapshot current = snapshot.get();
+        return MenuCatalogStatsDto.builder()
+                .version(current != null ? current.version() : 0L)
+                .menuCount(current != null ? current.menusById().size() : 0)
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .rebuildCount(rebuildCount.get())
+                .lastRebuildMillis(lastRebuildMillis.get())
+                .builtAt(current != null ? current.builtAt() : null)
+                .build();
+    }
+
+    /**
+     * DB에서 찾은 메뉴 중 스냅샷에 아직 없는 것만 추가 (전체 재구성 없음)
+     *
+     * 같은 메뉴를 동시에 찾은 요청은 락을 기다린 뒤 이미 반영된 것을 보고 재구성하지 않는다.
+     */
+    private synchronized void merge(List<Menu> menus) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            return;
+        }
+        List<Menu> added = menus.stream()
+                .filter(menu -> !current.menusById().containsKey(menu.getId()))
+                .toList();
+        if (added.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Map<String, MenuDto> menusById = new LinkedHashMap<>(current.menusById());
+        for (Menu menu : added) {
+            menusById.put(menu.getId(), toDto(menu));
+        }
+        publish(menusById.values(), startedAt);
+    }
+
+    private synchronized Snapshot loadIfAbsent() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    private Snapshot publish(Collection<MenuDto> menus, long startedAt) {
+        Snapshot next = Snapshot.of(versionSequence.incrementAndGet(), menus);
+        snapshot.set(next);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        rebuildCount.incrementAndGet();
+        lastRebuildMillis.set(elapsedMillis);
+        log.debug("메뉴 카탈로그 재구성 완료 (버전 {}, 메뉴 {}개, {}ms)", next.version(), menus.size(), elapsedMillis);
+        return next;
+    }
+
+    /**
+     * Menu 엔티티를 MenuDto로 변환
+     */
+    static MenuDto toDto(Menu menu) {
+        // 평균 평점 계산 (메뉴 문서에 저장된 평점 요약 사용)
+        Menu.RatingSummary ratingSummary = menu.getRatingSummary();
+        int ratingCount = ratingSummary != null && ratingSummary.getCount() != null ? ratingSummary.getCount() : 0;
+        double averageRating = ratingCount > 0 && ratingSummary.getSum() != null
+                ? (double) ratingSummary.getSum() / ratingCount
+                : 0.0;
+
+        // 오늘 품절 여부 (남은 재고는 판매마다 바뀌므로 InventoryService.getStock에서 조회)
+        boolean soldOut = LocalDate.now().equals(menu.getSoldOutDate());
+
+        return MenuDto.builder()
+                .id(menu.getId())
+                .name(menu.getName())
+                .description(menu.getDescription())
+                .price(menu.getPrice())
+                .restaurantName(menu.getRestaurantName())
+                .imageUrl(menu.getImageUrl())
+                .isAvailable(soldOut ? Boolean.FALSE : menu.getIsAvailable())
+                .availableDate(menu.getAvailableDate())
+                .nutritionInfo(menu.getNutritionInfo())
+                .allergyIngredients(menu.getAllergyIngredients())
+                .allergenMask(menu.getAllergenMask() != null
+                        ? menu.getAllergenMask()
+                        : AllergenDictionary.encode(menu.getAllergyIngredients()))
+                .averageRating(averageRating)
+                .ratingCount(ratingCount)
+                .dailyStock(menu.getDailyStock())
+                .build();
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷 (ID별 전체 메뉴, 식당별 제공 가능 메뉴)
+     */
+    public record Snapshot(
+            long version,
+            List<MenuDto> availableMenus,
+            Map<String, MenuDto> menusById,
+            Map<String, List<MenuDto>> availableMenusByRestaurant,
+            LocalDateTime builtAt) {
+
+        static Snapshot of(long version, Collection<MenuDto> menus) {
+            List<MenuDto> availableMenus = new ArrayList<>();
+            Map<String, MenuDto> menusById = new LinkedHashMap<>();
+            Map<String, List<MenuDto>> availableMenusByRestaurant = new LinkedHashMap<>();
+
+            for (MenuDto menu : menus) {
+                menusById.put(menu.getId(), menu);
+                if (Boolean.TRUE.equals(menu.getIsAvailable())) {
+                    availableMenus.add(menu);
+                    availableMenusByRestaurant
+                            .computeIfAbsent(menu.getRestaurantName(), name -> new ArrayList<>())
+                            .add(menu);
+                }
+            }
+
+            Map<String, List<MenuDto>> restaurants = new LinkedHashMap<>();
+            availableMenusByRestaurant.forEach((name, list) -> restaurants.put(name, List.copyOf(list)));
+
+            return new Snapshot(
+                    version,
+                    List.copyOf(availableMenus),
+                    Collections.unmodifiableMap(menusById),
+                    Collections.unmodifiableMap(restaurants),
+                    LocalDateTime.now());
+        }
+
+        public Optional<MenuDto> findById(String menuId) {
+            return Optional.ofNullable(menusById.get(menuId));
+        }
+
+        public List<MenuDto> availableMenusOf(String restaurantName) {
+            return availableMenusByRestaurant.getOrDefault(restaurantName, List.of());
+        }
+    }
+}
@@ -1,24 +1,49 @@
 package com.example.easython.service;
 
+import com.example.easython.domain.Menu;
 import com.example.easython.domain.MenuRating;
 import com.example.easython.dto.MenuRatingDto;
 import com.example.easython.dto.RatingRequestDto;
 import com.example.easython.repository.MenuRatingRepository;
 import com.example.easython.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MenuRatingService {
 
+    private static final String SUMMARY_COUNT = "ratingSummary.count";
+    private static final String SUMMARY_SUM = "ratingSummary.sum";
+    private static final String SUMMARY_HISTOGRAM = "ratingSummary.histogram.";
+
     private final MenuRatingRepository menuRatingRepository;
     private final MenuRepository menuRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MenuCatalog menuCatalog;
 
     /**
      * 메뉴 평가 생성 또는 업데이트
@@ -29,24 +54,50 @@ public class MenuRatingService {
         menuRepository.findById(menuId)
                 .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다."));
 
-        // 기존 평가가 있으면 업데이트, 없으면 생성
-        MenuRating rating = menuRatingRepository.findByMenuIdAndUserId(menuId, userId)
-                .map(existing -> {
-                    existing.setRating(request.getRating());
-                    existing.setComment(request.getComment());
-                    existing.setUpdatedAt(LocalDateTime.now());
-                    return existing;
-                })
-                .orElse(MenuRating.builder()
-                        .menuId(menuId)
-                        .userId(userId)
-                        .rating(request.getRating())
-                        .comment(request.getComment())
-                        .createdAt(LocalDateTime.now())
-                        .updatedAt(LocalDateTime.now())
-                        .build());
-
-        MenuRating savedRating = menuRatingRepository.save(rating);
+        // (menuId, userId) 평가를 원자적으로 upsert하고 변경 전 문서로 요약 변경분 계산
+        Query query = Query.query(Criteria.where("menuId").is(menuId).and("userId").is(userId));
+        ObjectId newId = new ObjectId();
+        LocalDateTime now = LocalDateTime.now();
+        Update ratingUpdate = new Update()
+                .set("rating", request.getRating())
+                .set("comment", request.getComment())
+                .set("updatedAt", now)
+                .setOnInsert("_id", newId)
+                .setOnInsert("createdAt", now);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(false);
+
+        MenuRating previous;
+        try {
+            previous = mongoTemplate.findAndModify(query, ratingUpdate, options, MenuRating.class);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 첫 평가가 동시에 저장되면 먼저 저장된 평가를 업데이트
+            previous = mongoTemplate.findAndModify(query, ratingUpdate, options, MenuRating.class);
+        }
+        Integer previousRating = previous != null ? previous.getRating() : null;
+
+        // 평점 요약 갱신 (변경분만 $inc)
+        Update update = new Update();
+        if (previousRating == null) {
+            update.inc(SUMMARY_COUNT, 1)
+                    .inc(SUMMARY_SUM, request.getRating())
+                    .inc(SUMMARY_HISTOGRAM + request.getRating(), 1);
+            incrementSummary(menuId, update);
+        } else if (!previousRating.equals(request.getRating())) {
+            update.inc(SUMMARY_SUM, request.getRating() - previousRating)
+                    .inc(SUMMARY_HISTOGRAM + previousRating, -1)
+                    .inc(SUMMARY_HISTOGRAM + request.getRating(), 1);
+            incrementSummary(menuId, update);
+        }
+
+        MenuRating savedRating = MenuRating.builder()
+                .id(previous != null ? previous.getId() : newId.toHexString())
+                .menuId(menuId)
+                .userId(userId)
+                .rating(request.getRating())
+                .comment(request.getComment())
+                .createdAt(previous != null ? previous.getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
         return convertToDto(savedRating);
     }
 
@@ -77,7 +128,92 @@ public class MenuRatingService {
      */
     @Transactional
     public void deleteRating(String ratingId) {
-        menuRatingRepository.deleteById(ratingId);
+        // 조회와 삭제를 한 번에 처리해 중복 삭제 요청이 요약을 두 번 차감하지 않도록 함
+        MenuRating rating = mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("_id").is(ratingId)), MenuRating.class);
+        if (rating == null) {
+            throw new RuntimeException("평가를 찾을 수 없습니다.");
+        }
+
+        incrementSummary(rating.getMenuId(), new Update()
+                .inc(SUMMARY_COUNT, -1)
+                .inc(SUMMARY_SUM, -rating.getRating())
+                .inc(SUMMARY_HISTOGRAM + rating.getRating(), -1));
+    }
+
+    /**
+     * 평점 요약이 없는 메뉴가 있는지 (요약 도입 전 데이터 또는 새로 만든 메뉴)
+     */
+    public boolean hasMissingRatingSummaries() {
+        return mongoTemplate.exists(Query.query(Criteria.where("ratingSummary").exists(false)), Menu.class);
+    }
+
+    /**
+     * menu_ratings 전체를 집계하여 모든 메뉴의 평점 요약 재구성 (백필)
+     * 집계 이후의 $inc는 덮어쓰므로 평가 쓰기가 없는 시점(기동 시, 점검 중)에만 실행해야 함
+     */
+    public int rebuildRatingSummaries() {
+        GroupOperation group = Aggregation.group("menuId")
+                .count().as("count")
+                .sum("rating").as("sum");
+        for (int star = 1; star <= 5; star++) {
+            group = group.sum(ConditionalOperators
+                            .when(ComparisonOperators.valueOf("rating").equalToValue(star))
+                            .then(1)
+                            .otherwise(0))
+                    .as("star" + star);
+        }
+
+        List<Document> results = mongoTemplate
+                .aggregate(Aggregation.newAggregation(group), MenuRating.class, Document.class)
+                .getMappedResults();
+
+        // 집계된 메뉴는 집계 결과로, 집계에 없는 메뉴만 빈 요약으로 설정
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Menu.class);
+        List<Object> ratedMenuIds = new ArrayList<>();
+        for (Document result : results) {
+            ratedMenuIds.add(result.get("_id"));
+            Map<String, Integer> histogram = new HashMap<>();
+            for (int star = 1; star <= 5; star++) {
+                histogram.put(String.valueOf(star), ((Number) result.get("star" + star)).intValue());
+            }
+            Menu.RatingSummary summary = Menu.RatingSummary.builder()
+                    .count(((Number) result.get("count")).intValue())
+                    .sum(((Number) result.get("sum")).intValue())
+                    .histogram(histogram)
+                    .build();
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(result.get("_id"))),
+                    new Update().set("ratingSummary", summary));
+        }
+        bulkOps.updateMulti(
+                Query.query(Criteria.where("_id").nin(ratedMenuIds)),
+                new Update().set("ratingSummary", emptySummary()));
+        bulkOps.execute();
+        menuCatalog.refresh();
+
+        log.info("메뉴 평점 요약 재구성 완료 (평가된 메뉴 {}개)", results.size());
+        return results.size();
+    }
+
+    /**
+     * 메뉴 문서의 평점 요약에 변경분 적용
+     */
+    private void incrementSummary(String menuId, Update update) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(menuId)), update, Menu.class);
+        menuCatalog.refresh(menuId);
+    }
+
+    private Menu.RatingSummary emptySummary() {
+        Map<String, Integer> histogram = new HashMap<>();
+        for (int star = 1; star <= 5; star++) {
+            histogram.put(String.valueOf(star), 0);
+        }
+        return Menu.RatingSummary.builder()
+                .count(0)
+                .sum(0)
+                .histogram(histogram)
+                .build();
     }
 
     /**
@@ -99,4 +235,3 @@ public class MenuRatingService {
                 .build();
     }
 }
-
@@ -0,0 +1,101 @@
+package com.example.easython.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.MenuDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴 목록 응답 캐시 (카탈로그 버전별로 직렬화된 JSON과 gzip 본문, ETag 보관)
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuResponseCache {
+
+    private static final String ALL_MENUS_KEY = "all";
+    private static final String RESTAURANT_KEY_PREFIX = "restaurant:";
+
+    private final MenuCatalog menuCatalog;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SerializedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 메뉴 조회 응답
+     */
+    public SerializedResponse getAllMenus() {
+        MenuCatalog.Snapshot snapshot = menuCatalog.current();
+        return getOrSerialize(ALL_MENUS_KEY, snapshot.version(), snapshot.availableMenus(), "전체 메뉴 조회 성공");
+    }
+
+    /**
+     * 식당별 메뉴 조회 응답
+     */
+    public SerializedResponse getMenusByRestaurant(String restaurantName) {
+        MenuCatalog.Snapshot snapshot = menuCatalog.current();
+        List<MenuDto> menus = snapshot.availableMenusOf(restaurantName);
+
+        // 존재하지 않는 식당 이름으로 캐시가 무한히 커지지 않도록 캐시하지 않음
+        if (!snapshot.availableMenusByRestaurant().containsKey(restaurantName)) {
+            return serialize(snapshot.version(), menus, "식당별 메뉴 조회 성공");
+        }
+        return getOrSerialize(RESTAURANT_KEY_PREFIX + restaurantName, snapshot.version(), menus, "식당별 메뉴 조회 성공");
+    }
+
+    private SerializedResponse getOrSerialize(String key, long version, List<MenuDto> menus, String message) {
+        SerializedResponse cached = responses.get(key);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        SerializedResponse serialized = serialize(version, menus, message);
+        responses.merge(key, serialized, (previous, next) -> next.version() >= previous.version() ? next : previous);
+        return serialized;
+    }
+
+    private SerializedResponse serialize(long version, List<MenuDto> menus, String message) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(message, menus));
+            String hash = DigestUtils.md5DigestAsHex(json);
+            return new SerializedResponse(version, json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("메뉴 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(source.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 직렬화된 응답 (카탈로그 버전, JSON/gzip 본문, 본문별 강한 ETag)
+     */
+    public record SerializedResponse(long version, byte[] json, byte[] gzipJson, String etag, String gzipEtag) {
+
+        /**
+         * If-None-Match 헤더가 현재 응답과 일치하는지 확인
+         */
+        public boolean matches(String ifNoneMatch) {
+            return ETags.matches(ifNoneMatch, etag, gzipEtag);
+        }
+    }
+}
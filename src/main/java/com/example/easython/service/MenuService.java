@@ -1,19 +1,23 @@
 package com.example.easython.service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.easython.domain.Menu;
-import com.example.easython.domain.MenuRating;
+import com.example.easython.domain.AllergenDictionary;
 import com.example.easython.domain.OrderHistory;
+import com.example.easython.domain.User;
+import com.example.easython.dto.MenuCatalogStatsDto;
 import com.example.easython.dto.MenuDto;
 import com.example.easython.dto.MenuListResponseDto;
-import com.example.easython.repository.MenuRatingRepository;
-import com.example.easython.repository.MenuRepository;
+import com.example.easython.dto.NutritionQueryDto;
 import com.example.easython.repository.OrderHistoryRepository;
+import com.example.easython.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,19 +25,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MenuService {
 
-    private final MenuRepository menuRepository;
-    private final MenuRatingRepository menuRatingRepository;
+    private static final int MAX_POPULAR_MENUS = 50;
+
     private final OrderHistoryRepository orderHistoryRepository;
+    private final UserRepository userRepository;
+    private final MenuCatalog menuCatalog;
+    private final MenuResponseCache menuResponseCache;
+    private final NutritionIndex nutritionIndex;
 
     /**
      * 전체 메뉴 조회 (오늘 날짜 기준 사용 가능한 메뉴)
      */
     @Transactional(readOnly = true)
     public List<MenuDto> getAllMenus() {
-        List<Menu> menus = menuRepository.findByIsAvailableTrue();
-        return menus.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return menuCatalog.current().availableMenus();
     }
 
     /**
@@ -41,12 +46,50 @@ public class MenuService {
      */
     @Transactional(readOnly = true)
     public List<MenuDto> getMenusByRestaurant(String restaurantName) {
-        List<Menu> menus = menuRepository.findByRestaurantNameAndIsAvailableTrue(restaurantName);
+        return menuCatalog.current().availableMenusOf(restaurantName);
+    }
+
+    /**
+     * 사용자 알레르기 유발성분이 없는 메뉴 조회 (메뉴별 비트마스크 AND 한 번으로 판별)
+     */
+    @Transactional(readOnly = true)
+    public List<MenuDto> getSafeMenus(String userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        long userMask = user.getAllergenMask() != null
+                ? user.getAllergenMask()
+                : AllergenDictionary.encode(user.getAllergyIngredients());
+
+        List<MenuDto> menus = menuCatalog.current().availableMenus();
+        if (userMask == 0L) {
+            return menus;
+        }
         return menus.stream()
-                .map(this::convertToDto)
+                .filter(menu -> (menu.getAllergenMask() & userMask) == 0L)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 영양성분 범위 조건으로 메뉴 조회 (정렬 기준 영양성분 상위 K개)
+     */
+    public List<MenuDto> queryByNutrition(NutritionQueryDto query) {
+        return nutritionIndex.query(query);
+    }
+
+    /**
+     * 전체 메뉴 조회 응답 (직렬화된 JSON, 카탈로그 버전별 캐시)
+     */
+    public MenuResponseCache.SerializedResponse getAllMenusResponse() {
+        return menuResponseCache.getAllMenus();
+    }
+
+    /**
+     * 식당별 메뉴 조회 응답 (직렬화된 JSON, 카탈로그 버전별 캐시)
+     */
+    public MenuResponseCache.SerializedResponse getMenusByRestaurantResponse(String restaurantName) {
+        return menuResponseCache.getMenusByRestaurant(restaurantName);
+    }
+
     /**
      * 메뉴 페이지 정보 조회 (전체 메뉴 + 인기 메뉴 3개)
      */
@@ -69,20 +112,24 @@ public class MenuService {
      */
     @Transactional(readOnly = true)
     public List<MenuDto> getPopularMenus(String userId, int limit) {
-        List<OrderHistory> orderHistories = orderHistoryRepository.findTop3ByUserIdOrderByOrderCountDesc(userId);
+        if (userId == null || userId.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        // 제공 가능한 메뉴로 한정하여 주문 횟수 상위 limit개만 조회 (쿼리 1회)
+        MenuCatalog.Snapshot snapshot = menuCatalog.current();
+        Set<String> availableMenuIds = snapshot.availableMenus().stream()
+                .map(MenuDto::getId)
+                .collect(Collectors.toSet());
+        List<OrderHistory> orderHistories = orderHistoryRepository.findByUserIdAndMenuIdInOrderByOrderCountDesc(
+                userId, availableMenuIds, PageRequest.of(0, Math.min(limit, MAX_POPULAR_MENUS)));
+
         return orderHistories.stream()
-                .limit(limit)
-                .map(history -> {
-                    Menu menu = menuRepository.findById(history.getMenuId())
-                            .orElse(null);
-                    if (menu != null) {
-                        MenuDto dto = convertToDto(menu);
-                        dto.setOrderCount(history.getOrderCount());
-                        return dto;
-                    }
-                    return null;
-                })
-                .filter(dto -> dto != null)
+                .map(history -> snapshot.findById(history.getMenuId())
+                        .map(menu -> menu.toBuilder()
+                                .orderCount(history.getOrderCount())
+                                .build()))
+                .flatMap(Optional::stream)
                 .collect(Collectors.toList());
     }
 
@@ -91,35 +138,14 @@ public class MenuService {
      */
     @Transactional(readOnly = true)
     public MenuDto getMenuById(String menuId) {
-        Menu menu = menuRepository.findById(menuId)
+        return menuCatalog.current().findById(menuId)
                 .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다."));
-        return convertToDto(menu);
     }
 
     /**
-     * Menu 엔티티를 MenuDto로 변환
+     * 메뉴 카탈로그 캐시 통계 조회
      */
-    private MenuDto convertToDto(Menu menu) {
-        // 평균 평점 계산
-        List<MenuRating> ratings = menuRatingRepository.findByMenuId(menu.getId());
-        double averageRating = ratings.stream()
-                .mapToInt(MenuRating::getRating)
-                .average()
-                .orElse(0.0);
-
-        return MenuDto.builder()
-                .id(menu.getId())
-                .name(menu.getName())
-                .description(menu.getDescription())
-                .price(menu.getPrice())
-                .restaurantName(menu.getRestaurantName())
-                .imageUrl(menu.getImageUrl())
-                .isAvailable(menu.getIsAvailable())
-                .availableDate(menu.getAvailableDate())
-                .nutritionInfo(menu.getNutritionInfo())
-                .allergyIngredients(menu.getAllergyIngredients())
-                .averageRating(averageRating)
-                .build();
+    public MenuCatalogStatsDto getCatalogStats() {
+        return menuCatalog.getStats();
     }
 }
-
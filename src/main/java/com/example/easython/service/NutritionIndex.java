@@ -0,0 +1,260 @@
+package com.example.easython.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.example.easython.domain.Menu;
+import com.example.easython.dto.MenuDto;
+import com.example.easython.dto.NutritionQueryDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영양성분 범위 인덱스 (카탈로그 버전별로 영양성분마다 정렬된 float 컬럼 유지)
+ *
+ * 범위 조건은 컬럼별 이진 탐색으로 후보 집합(BitSet)을 만든 뒤 교집합을 구하고,
+ * 정렬 기준 컬럼을 순서대로 훑어 상위 K개를 고른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NutritionIndex {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final MenuCatalog menuCatalog;
+
+    private final AtomicReference<Columns> columns = new AtomicReference<>();
+
+    /**
+     * 영양성분 범위 조건과 정렬 기준으로 상위 K개 메뉴 조회
+     */
+    public List<MenuDto> query(NutritionQueryDto query) {
+        Columns index = currentColumns();
+        Nutrient sortBy = query.getSortBy() != null ? Nutrient.from(query.getSortBy()) : null;
+        boolean ascending = "asc".equalsIgnoreCase(query.getDirection());
+        int limit = query.getLimit() != null ? Math.max(0, Math.min(query.getLimit(), MAX_LIMIT)) : DEFAULT_LIMIT;
+
+        // 범위 조건별 후보 교집합 (null이면 전체)
+        BitSet candidates = null;
+        for (Nutrient nutrient : Nutrient.values()) {
+            Double min = nutrient.min.apply(query);
+            Double max = nutrient.max.apply(query);
+            if (min == null && max == null) {
+                continue;
+            }
+            BitSet matched = index.range(nutrient,
+                    min != null ? min.floatValue() : Float.NEGATIVE_INFINITY,
+                    max != null ? max.floatValue() : Float.POSITIVE_INFINITY);
+            if (candidates == null) {
+                candidates = matched;
+            } else {
+                candidates.and(matched);
+            }
+        }
+
+        List<MenuDto> results = new ArrayList<>(Math.min(limit, index.menus.length));
+        if (limit == 0) {
+            return results;
+        }
+
+        if (sortBy == null) {
+            for (int position = 0; position < index.menus.length && results.size() < limit; position++) {
+                collect(index, position, candidates, query.getRestaurantName(), results);
+            }
+            return results;
+        }
+
+        // 정렬 기준 영양성분 값이 없는 메뉴는 제외
+        int[] order = index.order[sortBy.ordinal()];
+        int count = index.present[sortBy.ordinal()];
+        for (int i = 0; i < count && results.size() < limit; i++) {
+            int position = order[ascending ? i : count - 1 - i];
+            collect(index, position, candidates, query.getRestaurantName(), results);
+        }
+        return results;
+    }
+
+    private void collect(Columns index, int position, BitSet candidates, String restaurantName, List<MenuDto> results) {
+        if (candidates != null && !candidates.get(position)) {
+            return;
+        }
+        MenuDto menu = index.menus[position];
+        if (restaurantName != null && !restaurantName.equals(menu.getRestaurantName())) {
+            return;
+        }
+        results.add(menu);
+    }
+
+    private Columns currentColumns() {
+        MenuCatalog.Snapshot snapshot = menuCatalog.current();
+        Columns current = columns.get();
+        if (current != null && current.version == snapshot.version()) {
+            return current;
+        }
+        Columns rebuilt = Columns.build(snapshot);
+        columns.accumulateAndGet(rebuilt, (previous, next) ->
+                previous == null || next.version >= previous.version ? next : previous);
+        return rebuilt;
+    }
+
+    /**
+     * 인덱스 대상 영양성분
+     */
+    public enum Nutrient {
+        CALORIES(NutritionQueryDto::getMinCalories, NutritionQueryDto::getMaxCalories,
+                info -> toFloat(info.getCalories())),
+        PROTEIN(NutritionQueryDto::getMinProtein, NutritionQueryDto::getMaxProtein,
+                info -> toFloat(info.getProtein())),
+        CARBS(NutritionQueryDto::getMinCarbs, NutritionQueryDto::getMaxCarbs,
+                info -> toFloat(info.getCarbs())),
+        FAT(NutritionQueryDto::getMinFat, NutritionQueryDto::getMaxFat,
+                info -> toFloat(info.getFat())),
+        SUGAR(NutritionQueryDto::getMinSugar, NutritionQueryDto::getMaxSugar,
+                info -> toFloat(info.getSugar())),
+        SODIUM(NutritionQueryDto::getMinSodium, NutritionQueryDto::getMaxSodium,
+                info -> toFloat(info.getSodium())),
+        FIBER(NutritionQueryDto::getMinFiber, NutritionQueryDto::getMaxFiber,
+                info -> toFloat(info.getFiber())),
+        CHOLESTEROL(NutritionQueryDto::getMinCholesterol, NutritionQueryDto::getMaxCholesterol,
+                info -> toFloat(info.getCholesterol()));
+
+        private final Function<NutritionQueryDto, Double> min;
+        private final Function<NutritionQueryDto, Double> max;
+        private final Function<Menu.NutritionInfo, Float> extractor;
+
+        Nutrient(Function<NutritionQueryDto, Double> min, Function<NutritionQueryDto, Double> max,
+                 Function<Menu.NutritionInfo, Float> extractor) {
+            this.min = min;
+            this.max = max;
+            this.extractor = extractor;
+        }
+
+        static Nutrient from(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("지원하지 않는 정렬 기준입니다: " + name);
+            }
+        }
+
+        float extract(MenuDto menu) {
+            if (menu.getNutritionInfo() == null) {
+                return Float.NaN;
+            }
+            Float value = extractor.apply(menu.getNutritionInfo());
+            return value != null ? value : Float.NaN;
+        }
+
+        private static Float toFloat(Integer value) {
+            return value != null ? value.floatValue() : null;
+        }
+
+        private static Float toFloat(BigDecimal value) {
+            return value != null ? value.floatValue() : null;
+        }
+    }
+
+    /**
+     * 카탈로그 버전 하나에 대한 영양성분 컬럼
+     */
+    private static final class Columns {
+        private final long version;
+        private final MenuDto[] menus;
+        private final int[][] order; // 영양성분별 값 오름차순 메뉴 위치
+        private final float[][] sortedValues; // order와 같은 순서의 값
+        private final int[] present; // 영양성분별 값이 있는 메뉴 수
+
+        private Columns(long version, MenuDto[] menus, int[][] order, float[][] sortedValues, int[] present) {
+            this.version = version;
+            this.menus = menus;
+            this.order = order;
+            this.sortedValues = sortedValues;
+            this.present = present;
+        }
+
+        static Columns build(MenuCatalog.Snapshot snapshot) {
+            MenuDto[] menus = snapshot.availableMenus().toArray(new MenuDto[0]);
+            int nutrientCount = Nutrient.values().length;
+            int[][] order = new int[nutrientCount][];
+            float[][] sortedValues = new float[nutrientCount][];
+            int[] present = new int[nutrientCount];
+
+            for (Nutrient nutrient : Nutrient.values()) {
+                float[] values = new float[menus.length];
+                Integer[] positions = new Integer[menus.length];
+                int count = 0;
+                for (int position = 0; position < menus.length; position++) {
+                    values[position] = nutrient.extract(menus[position]);
+                    if (!Float.isNaN(values[position])) {
+                        positions[count++] = position;
+                    }
+                }
+                Arrays.sort(positions, 0, count, (a, b) -> Float.compare(values[a], values[b]));
+
+                int[] nutrientOrder = new int[count];
+                float[] nutrientValues = new float[count];
+                for (int i = 0; i < count; i++) {
+                    nutrientOrder[i] = positions[i];
+                    nutrientValues[i] = values[positions[i]];
+                }
+                order[nutrient.ordinal()] = nutrientOrder;
+                sortedValues[nutrient.ordinal()] = nutrientValues;
+                present[nutrient.ordinal()] = count;
+            }
+            return new Columns(snapshot.version(), menus, order, sortedValues, present);
+        }
+
+        /**
+         * min 이상 max 이하인 메뉴 위치 집합
+         */
+        BitSet range(Nutrient nutrient, float min, float max) {
+            float[] values = sortedValues[nutrient.ordinal()];
+            int[] positions = order[nutrient.ordinal()];
+            int from = lowerBound(values, min);
+            int to = upperBound(values, max);
+
+            BitSet matched = new BitSet(menus.length);
+            for (int i = from; i < to; i++) {
+                matched.set(positions[i]);
+            }
+            return matched;
+        }
+
+        private static int lowerBound(float[] values, float key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int upperBound(float[] values, float key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.OrderSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 완료·취소된 지 오래된 주문 보관
+ *
+ * 매일 새벽 보관 기준(order.archive.after-days)보다 오래된 완료·취소 주문을 커서로 읽어 BATCH_SIZE건씩
+ * orders_archive에 bulk upsert한 뒤 orders에서 삭제하므로, 주방·상태 조회는 진행 중인 주문 위주의 작은 컬렉션만 읽는다.
+ * 주문 조회와 주문 목록은 orders에 없거나 보관 기준보다 오래된 구간이면 orders_archive도 함께 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    static final String LIVE_COLLECTION = "orders";
+    static final String ARCHIVE_COLLECTION = "orders_archive";
+    private static final int BATCH_SIZE = 500;
+    private static final List<Order.OrderStatus> ARCHIVED_STATUSES =
+            List.of(Order.OrderStatus.COMPLETED, Order.OrderStatus.CANCELLED);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.after-days:30}")
+    private int afterDays;
+
+    /**
+     * 보관 컬렉션 인덱스 생성 (사용자별 주문 목록, 기간·상태·가게·테이블 검색용, orders와 같은 구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(ARCHIVE_COLLECTION).ensureIndex(new CompoundIndexDefinition(
+                new Document("userId", 1).append("orderedAt", -1).append("_id", -1)).named("user_ordered_at_idx"));
+        mongoTemplate.indexOps(ARCHIVE_COLLECTION).ensureIndex(new CompoundIndexDefinition(
+                new Document("orderedAt", -1).append("_id", -1)).named("ordered_at_idx"));
+        mongoTemplate.indexOps(ARCHIVE_COLLECTION).ensureIndex(new CompoundIndexDefinition(
+                new Document("status", 1).append("orderedAt", -1).append("_id", -1)).named("status_ordered_at_idx"));
+        mongoTemplate.indexOps(ARCHIVE_COLLECTION).ensureIndex(new CompoundIndexDefinition(
+                new Document("restaurantName", 1).append("orderedAt", -1).append("_id", -1))
+                .named("restaurant_ordered_at_idx"));
+        mongoTemplate.indexOps(ARCHIVE_COLLECTION).ensureIndex(new CompoundIndexDefinition(
+                new Document("tableId", 1).append("orderedAt", -1).append("_id", -1)).named("table_ordered_at_idx"));
+    }
+
+    /**
+     * 보관 기준보다 오래된 완료·취소 주문을 보관 컬렉션으로 이동
+     */
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        Query query = Query.query(Criteria.where("status").in(ARCHIVED_STATUSES).and("updatedAt").lt(cutoff))
+                .cursorBatchSize(BATCH_SIZE);
+
+        int archived = 0;
+        List<Order> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Order> orders = mongoTemplate.stream(query, Order.class)) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                batch.add(order);
+                if (batch.size() == BATCH_SIZE) {
+                    archived += move(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            archived += move(batch);
+        }
+        if (archived > 0) {
+            log.info("주문 보관 완료 ({}건, 기준 {})", archived, cutoff);
+        }
+    }
+
+    /**
+     * 보관된 주문 조회
+     */
+    public Optional<Order> findById(String orderId) {
+        return Optional.ofNullable(mongoTemplate.findById(orderId, Order.class, ARCHIVE_COLLECTION));
+    }
+
+    /**
+     * 주문 시간이 보관 대상이 될 수 있을 만큼 오래되었는지 (주문 시간은 마지막 변경 시간보다 늦을 수 없음)
+     */
+    boolean mayBeArchived(LocalDateTime orderedAt) {
+        return orderedAt == null || orderedAt.isBefore(LocalDateTime.now().minusDays(afterDays));
+    }
+
+    /**
+     * 주문 요약 페이지 조회 (orders를 먼저 읽고, 보관 주문이 페이지에 끼어들 수 있을 때만 orders_archive도 읽어 병합)
+     *
+     * @param query 컬렉션 이름을 받아 커서 정렬 순서로 최대 limit건을 읽는 조회
+     */
+    List<OrderSummaryDto> fetchPage(Function<String, List<OrderSummaryDto>> query, int limit) {
+        List<OrderSummaryDto> live = query.apply(LIVE_COLLECTION);
+        if (live.size() >= limit && !mayBeArchived(live.get(live.size() - 1).getOrderedAt())) {
+            return live;
+        }
+        List<OrderSummaryDto> archived = query.apply(ARCHIVE_COLLECTION);
+        if (archived.isEmpty()) {
+            return live;
+        }
+        // 보관 중인 주문은 잠시 두 컬렉션에 모두 있을 수 있으므로 ID로 중복 제거
+        Set<String> seen = new HashSet<>();
+        return Stream.concat(live.stream(), archived.stream())
+                .sorted(OrderCursor.ORDER)
+                .filter(order -> seen.add(order.getId()))
+                .limit(limit)
+                .toList();
+    }
+
+    private int move(List<Order> orders) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class,
+                ARCHIVE_COLLECTION);
+        for (Order order : orders) {
+            // 이전 실행이 삭제 전에 중단되었어도 같은 주문이 중복 보관되지 않도록 upsert
+            operations.replaceOne(Query.query(Criteria.where("_id").is(order.getId())), order,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        operations.execute();
+
+        List<String> ids = orders.stream().map(Order::getId).toList();
+        return (int) mongoTemplate.remove(
+                Query.query(Criteria.where("_id").in(ids).and("status").in(ARCHIVED_STATUSES)), Order.class)
+                .getDeletedCount();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.easython.service;
+
+import com.example.easython.dto.OrderDto;
+
+/**
+ * 주문 생성/상태 변경 이벤트 (DB 반영 이후 발행)
+ */
+public record OrderChangedEvent(OrderDto order) {
+}
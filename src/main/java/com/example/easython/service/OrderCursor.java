@@ -0,0 +1,91 @@
+package com.example.easython.service;
+
+import com.example.easython.dto.CursorPageDto;
+import com.example.easython.dto.OrderSummaryDto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 주문 목록 키셋 페이지 커서 (마지막으로 받은 주문의 주문 시간과 ID)
+ *
+ * 주문 시간 내림차순, 같은 시간이면 ID 내림차순으로 정렬된 목록에서 커서 다음 주문부터 조회한다.
+ * 클라이언트에는 "주문 시간|ID"를 URL-safe Base64로 인코딩한 문자열로 전달한다.
+ */
+record OrderCursor(LocalDateTime orderedAt, String id) {
+
+    // 커서 정렬 순서 (주문 시간, ID 내림차순)
+    static final Sort SORT = Sort.by(Sort.Direction.DESC, "orderedAt", "_id");
+    // 메모리에서 두 컬렉션 결과를 합칠 때 쓰는 같은 정렬 순서 (주문 시간이 없으면 마지막)
+    static final Comparator<OrderSummaryDto> ORDER = Comparator
+            .comparing(OrderSummaryDto::getOrderedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(OrderSummaryDto::getId)
+            .reversed();
+
+    /**
+     * 커서 문자열 해석 (null이나 빈 문자열이면 첫 페이지)
+     */
+    static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException(value);
+            }
+            return new OrderCursor(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    static String encode(LocalDateTime orderedAt, String id) {
+        String value = orderedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 다음 주문 조건 (orderedAt < t 또는 orderedAt = t 이고 _id < id)
+     */
+    Criteria after() {
+        return new Criteria().orOperator(
+                Criteria.where("orderedAt").lt(orderedAt),
+                Criteria.where("orderedAt").is(orderedAt).and("_id").lt(id));
+    }
+
+    /**
+     * 목록 화면용 주문 요약 projection (주문 항목은 읽지 않고 항목 수만 계산)
+     */
+    static ProjectionOperation summaryProjection() {
+        return Aggregation.project("restaurantName", "pickupNumber", "status", "totalPrice", "orderedAt")
+                .and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull("items").then(Collections.emptyList())))
+                .as("itemCount");
+    }
+
+    /**
+     * size + 1건 읽은 결과로 페이지 구성 (남는 한 건은 다음 페이지 존재 여부 판단용)
+     */
+    static CursorPageDto<OrderSummaryDto> page(List<OrderSummaryDto> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        OrderSummaryDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return CursorPageDto.<OrderSummaryDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? encode(last.getOrderedAt(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.dto.OrderEtaDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 예상 대기 시간 계산 (DB 조회 없이 메모리에서 계산)
+ *
+ * 메뉴별 조리 시간(주문 시간 → 준비 완료)의 지수 이동 평균과 가게 주방 대기열에서의 순서로
+ * 준비 완료 예상 시간을 구한다. 조리 시간 기록이 없는 메뉴는 가게 평균, 그마저 없으면 기본값을 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderEtaService {
+
+    private static final double ALPHA = 0.2;
+    private static final long DEFAULT_PREP_SECONDS = 300;
+    private static final long MAX_PREP_SECONDS = Duration.ofHours(2).toSeconds();
+    private static final int WARM_UP_ORDERS = 500;
+    private static final String TOPIC_PREFIX = "eta:";
+
+    private final MongoTemplate mongoTemplate;
+    private final KitchenQueueService kitchenQueueService;
+    private final AdmissionControlService admissionControlService;
+    private final SseHub sseHub;
+
+    // 메뉴 ID → 조리 시간 평균, 가게 이름 → 조리 시간 평균
+    private final Map<String, Ewma> menuPrepSeconds = new ConcurrentHashMap<>();
+    private final Map<String, Ewma> restaurantPrepSeconds = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 최근 준비 완료 주문으로 조리 시간 모델 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Query query = Query.query(Criteria.where("readyAt").exists(true))
+                .with(Sort.by(Sort.Direction.DESC, "readyAt"))
+                .limit(WARM_UP_ORDERS);
+        query.fields().include("restaurantName", "items.menuId", "orderedAt", "readyAt");
+        List<Order> orders = mongoTemplate.find(query, Order.class);
+
+        // 오래된 주문부터 반영해야 최근 값의 가중치가 커짐
+        for (int i = orders.size() - 1; i >= 0; i--) {
+            Order order = orders.get(i);
+            record(order.getRestaurantName(),
+                    order.getItems() != null ? order.getItems().stream().map(Order.OrderItem::getMenuId).toList() : List.of(),
+                    order.getOrderedAt(), order.getReadyAt());
+        }
+        log.info("조리 시간 모델 구성 완료 (주문 {}건, 메뉴 {}개)", orders.size(), menuPrepSeconds.size());
+    }
+
+    /**
+     * 준비 완료 주문으로 조리 시간 모델 갱신 후 같은 가게의 예상 시간 구독자에게 전송
+     */
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderDto order = event.order();
+        if (order.getStatus() == Order.OrderStatus.READY) {
+            record(order.getRestaurantName(),
+                    order.getItems() != null ? order.getItems().stream().map(OrderDto.OrderItemDto::getMenuId).toList() : List.of(),
+                    order.getOrderedAt(), order.getReadyAt());
+        }
+
+        // 대기열이 바뀌면 같은 가게 주문들의 순서와 예상 시간도 바뀜
+        List<OrderDto> queue = kitchenQueueService.getQueue(order.getRestaurantName());
+        publishEta(order, queue);
+        for (OrderDto queued : queue) {
+            if (!queued.getId().equals(order.getId())) {
+                publishEta(queued, queue);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 주문의 예상 대기 시간 조회
+     */
+    public OrderEtaDto getEta(String orderId) {
+        OrderDto order = kitchenQueueService.findActive(orderId);
+        if (order == null) {
+            throw new RuntimeException("진행 중인 주문을 찾을 수 없습니다.");
+        }
+        return estimate(order, kitchenQueueService.getQueue(order.getRestaurantName()));
+    }
+
+    /**
+     * 주문 예상 대기 시간 구독 (처음에 현재 값, 이후 대기열이 바뀔 때마다 "eta" 이벤트 전송)
+     */
+    public SseEmitter subscribe(String orderId) {
+        OrderEtaDto initial = getEta(orderId);
+        return sseHub.subscribe(TOPIC_PREFIX + orderId, "eta", () -> {
+            OrderDto order = kitchenQueueService.findActive(orderId);
+            return order != null ? estimate(order, kitchenQueueService.getQueue(order.getRestaurantName())) : initial;
+        });
+    }
+
+    private void publishEta(OrderDto order, List<OrderDto> queue) {
+        String topic = TOPIC_PREFIX + order.getId();
+        if (sseHub.subscriberCount(topic) > 0) {
+            sseHub.publish(topic, "eta", estimate(order, queue));
+        }
+    }
+
+    private OrderEtaDto estimate(OrderDto order, List<OrderDto> queue) {
+        LocalDateTime now = LocalDateTime.now();
+        if (order.getStatus() != null && order.getStatus() != Order.OrderStatus.PAYED
+                && order.getStatus() != Order.OrderStatus.CONFIRMED
+                && order.getStatus() != Order.OrderStatus.PREPARING) {
+            // 준비 완료 / 완료 / 취소 주문은 기다릴 필요 없음
+            return OrderEtaDto.builder()
+                    .orderId(order.getId())
+                    .status(order.getStatus())
+                    .pickupNumber(order.getPickupNumber())
+                    .ordersAhead(0)
+                    .estimatedWaitSeconds(0L)
+                    .estimatedReadyAt(order.getReadyAt() != null ? order.getReadyAt() : now)
+                    .build();
+        }
+
+        // 앞에서 조리 대기 중인 주문 수 (대기열은 주문 시간 순)
+        int ahead = 0;
+        for (OrderDto queued : queue) {
+            if (queued.getId().equals(order.getId())) {
+                break;
+            }
+            if (queued.getStatus() != Order.OrderStatus.READY) {
+                ahead++;
+            }
+        }
+
+        // 가장 오래 걸리는 메뉴 기준 조리 완료 시각과 앞선 주문 처리 시각 중 늦은 쪽
+        long prepSeconds = prepSeconds(order);
+        LocalDateTime orderedAt = order.getOrderedAt() != null ? order.getOrderedAt() : now;
+        LocalDateTime byPrep = orderedAt.plusSeconds(prepSeconds);
+        LocalDateTime byQueue = now.plusSeconds(admissionControlService.secondsToDrain(order.getRestaurantName(), ahead));
+        LocalDateTime readyAt = byPrep.isAfter(byQueue) ? byPrep : byQueue;
+
+        return OrderEtaDto.builder()
+                .orderId(order.getId())
+                .status(order.getStatus())
+                .pickupNumber(order.getPickupNumber())
+                .ordersAhead(ahead)
+                .estimatedWaitSeconds(Math.max(0, Duration.between(now, readyAt).toSeconds()))
+                .estimatedReadyAt(readyAt.isAfter(now) ? readyAt : now)
+                .build();
+    }
+
+    private long prepSeconds(OrderDto order) {
+        Ewma restaurant = restaurantPrepSeconds.get(Objects.requireNonNullElse(order.getRestaurantName(), ""));
+        long fallback = restaurant != null ? restaurant.seconds() : DEFAULT_PREP_SECONDS;
+        if (order.getItems() == null || order.getItems().isEmpty()) {
+            return fallback;
+        }
+        long longest = 0;
+        for (OrderDto.OrderItemDto item : order.getItems()) {
+            Ewma menu = item.getMenuId() != null ? menuPrepSeconds.get(item.getMenuId()) : null;
+            longest = Math.max(longest, menu != null ? menu.seconds() : fallback);
+        }
+        return longest;
+    }
+
+    private void record(String restaurantName, List<String> menuIds, LocalDateTime orderedAt, LocalDateTime readyAt) {
+        if (orderedAt == null || readyAt == null) {
+            return;
+        }
+        long seconds = Duration.between(orderedAt, readyAt).toSeconds();
+        // 시계 오차나 방치된 주문은 모델에서 제외
+        if (seconds <= 0 || seconds > MAX_PREP_SECONDS) {
+            return;
+        }
+        restaurantPrepSeconds.computeIfAbsent(Objects.requireNonNullElse(restaurantName, ""), name -> new Ewma())
+                .add(seconds);
+        for (String menuId : menuIds) {
+            if (menuId != null) {
+                menuPrepSeconds.computeIfAbsent(menuId, id -> new Ewma()).add(seconds);
+            }
+        }
+    }
+
+    /**
+     * 조리 시간 지수 이동 평균
+     */
+    private static final class Ewma {
+        private double average;
+        private boolean initialized;
+
+        synchronized void add(long seconds) {
+            average = initialized ? ALPHA * seconds + (1 - ALPHA) * average : seconds;
+            initialized = true;
+        }
+
+        synchronized long seconds() {
+            return Math.round(average);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 주문 접수 로컬 저널 (order.intake.journal.enabled=true일 때만 사용)
+ *
+ * 접수한 주문을 메모리 매핑 파일에 [길이][CRC32][주문 JSON] 레코드로 추가한 뒤 바로 응답하고,
+ * drain이 DRAIN_BATCH_SIZE건씩 orders에 bulk insert한 뒤 반영 위치(체크포인트)를 헤더에 기록한다.
+ * 재시작하면 체크포인트 이후의 레코드를 CRC로 확인하며 다시 읽어 반영하고, 이미 저장된 주문은 중복 키로 건너뛰므로
+ * 여러 번 재생해도 결과가 같다. 재생한 주문은 접수 때의 이벤트가 이 프로세스에서 발행되지 않았으므로 drain이 저장한 뒤
+ * onReplayed로 따로 알린다. 매핑된 페이지는 프로세스가 죽어도 OS가 파일에 기록하지만, 전원 장애까지 대비하려면
+ * 저널이 아닌 기존 동기 저장을 사용해야 한다. 저널 공간이 부족하면 append가 false를 반환하고 호출 측은 바로 저장한다.
+ * 문서 검증 실패처럼 다시 시도해도 저장될 수 없는 주문은 order_intake_dead_letters에 옮기고 건너뛰어 이후 주문의 반영이 막히지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIntakeJournal {
+
+    private static final int MAGIC = 0x4F524A31; // "ORJ1"
+    private static final int CHECKPOINT_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int DRAIN_BATCH_SIZE = 200;
+    private static final int DUPLICATE_KEY = 11000;
+    static final String DEAD_LETTER_COLLECTION = "order_intake_dead_letters";
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.intake.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.intake.journal.path:data/order-intake.journal}")
+    private String path;
+
+    @Value("${order.intake.journal.size-mb:64}")
+    private int sizeMb;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int writePosition; // 다음 레코드 위치 (append는 synchronized)
+
+    // 아직 orders에 반영되지 않은 주문 (저널 순서)
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Order> pendingById = new ConcurrentHashMap<>();
+    // drain은 한 번에 하나만 (append 락은 DB 저장 중에 잡지 않음)
+    private final Object drainLock = new Object();
+
+    /**
+     * 저널 파일 매핑 후 체크포인트 이후 레코드 재생
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path file = Path.of(path);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            capacity = (int) Math.max(channel.size(), (long) sizeMb * 1024 * 1024);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널 파일을 열 수 없습니다: " + path, e);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.putLong(CHECKPOINT_OFFSET, HEADER_SIZE);
+            buffer.putInt(0, MAGIC);
+        }
+        writePosition = replay((int) buffer.getLong(CHECKPOINT_OFFSET));
+        log.info("주문 저널 열기 완료 (미반영 주문 {}건)", pending.size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * 주문을 저널에 추가 (ID가 없으면 발급, 저널을 쓰지 않거나 공간이 부족하면 false)
+     */
+    public boolean append(Order order) {
+        if (!enabled) {
+            return false;
+        }
+        if (order.getId() == null) {
+            order.setId(new ObjectId().toHexString());
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(order);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("주문 저널 기록에 실패했습니다.", e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (this) {
+            int end = writePosition + RECORD_HEADER_SIZE + payload.length;
+            // 다음 레코드 길이 자리(종료 표시)까지 들어가야 함
+            if (end + Integer.BYTES > capacity) {
+                return false;
+            }
+            buffer.putInt(end, 0);
+            buffer.put(writePosition + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+            // 길이를 마지막에 써야 재생 시 완성된 레코드만 읽음
+            buffer.putInt(writePosition, payload.length);
+            writePosition = end;
+
+            pendingById.put(order.getId(), order);
+            pending.add(new Pending(order, end, false));
+        }
+        return true;
+    }
+
+    /**
+     * 아직 orders에 반영되지 않은 주문인지
+     */
+    public boolean isPending(String orderId) {
+        return pendingById.containsKey(orderId);
+    }
+
+    public Optional<Order> findPending(String orderId) {
+        return Optional.ofNullable(pendingById.get(orderId));
+    }
+
+    /**
+     * 사용자의 주문 중 아직 orders에 반영되지 않은 주문이 있는지
+     */
+    public boolean hasPendingFor(String userId) {
+        return pendingById.values().stream().anyMatch(order -> userId.equals(order.getUserId()));
+    }
+
+    /**
+     * 미반영 주문을 orders에 bulk insert (이번에 새로 저장된 주문은 onInserted로, 그중 재시작 후 재생한 주문은
+     * onReplayed로도 전달)
+     *
+     * 연결 오류 등으로 저장에 실패하면 체크포인트를 옮기지 않고 다음 호출에서 다시 시도한다.
+     * 주문별 쓰기 오류(중복 키 제외)가 난 주문은 dead letter로 옮기고 체크포인트를 넘긴다.
+     */
+    public void drain(Consumer<List<Order>> onInserted, Consumer<List<Order>> onReplayed) {
+        synchronized (drainLock) {
+            drainPending(onInserted, onReplayed);
+        }
+    }
+
+    private void drainPending(Consumer<List<Order>> onInserted, Consumer<List<Order>> onReplayed) {
+        while (!pending.isEmpty()) {
+            List<Pending> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+            for (Pending entry : pending) {
+                batch.add(entry);
+                if (batch.size() == DRAIN_BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            List<Order> orders = batch.stream().map(Pending::order).toList();
+            Set<Integer> skipped = insert(orders);
+
+            synchronized (this) {
+                int checkpoint = batch.get(batch.size() - 1).end();
+                buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+                // 모두 반영되었고 저널이 절반 이상 찼으면 처음부터 다시 사용
+                if (checkpoint == writePosition && writePosition > capacity / 2) {
+                    buffer.putInt(HEADER_SIZE, 0);
+                    buffer.putLong(CHECKPOINT_OFFSET, HEADER_SIZE);
+                    writePosition = HEADER_SIZE;
+                }
+            }
+            for (Pending entry : batch) {
+                pending.poll();
+                pendingById.remove(entry.order().getId());
+            }
+
+            List<Order> inserted = new ArrayList<>(orders.size());
+            List<Order> replayed = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                if (!skipped.contains(i)) {
+                    inserted.add(orders.get(i));
+                    if (batch.get(i).replayed()) {
+                        replayed.add(orders.get(i));
+                    }
+                }
+            }
+            // 체크포인트는 이미 옮겼으므로 후속 처리가 실패해도 다시 시도되지 않음 (기록만 남김)
+            notify(onInserted, inserted, "저장 후 처리");
+            notify(onReplayed, replayed, "재생 주문 알림");
+        }
+    }
+
+    private static void notify(Consumer<List<Order>> callback, List<Order> orders, String step) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try {
+            callback.accept(orders);
+        } catch (RuntimeException e) {
+            log.error("주문 저널 {} 실패 (주문 {}건: {})", step, orders.size(),
+                    orders.stream().map(Order::getId).toList(), e);
+        }
+    }
+
+    /**
+     * 순서 없는 bulk insert (저장되지 않은 주문의 위치 반환: 이미 저장된 주문과 dead letter로 옮긴 주문)
+     *
+     * 주문별 쓰기 오류가 없는 실패(연결 오류, write concern 오류)는 예외로 던져 배치 전체를 다시 시도하게 한다.
+     */
+    private Set<Integer> insert(List<Order> orders) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class).insert(orders).execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().isEmpty()) {
+                throw e;
+            }
+            Set<Integer> skipped = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                skipped.add(error.getIndex());
+                if (error.getCode() != DUPLICATE_KEY) {
+                    deadLetter(orders.get(error.getIndex()), error);
+                }
+            }
+            return skipped;
+        }
+    }
+
+    /**
+     * 저장할 수 없는 주문을 dead letter 컬렉션에 보관 (보관도 실패하면 주문 JSON을 로그로 남김)
+     */
+    private void deadLetter(Order order, BulkWriteError error) {
+        log.error("주문 저널의 주문 {}을(를) 저장할 수 없어 건너뜁니다 (코드 {}): {}",
+                order.getId(), error.getCode(), error.getMessage());
+        try {
+            mongoTemplate.save(order, DEAD_LETTER_COLLECTION);
+        } catch (RuntimeException e) {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(order);
+            } catch (JsonProcessingException ex) {
+                json = String.valueOf(order);
+            }
+            log.error("주문 저널 dead letter 보관 실패 ({}): {}", order.getId(), json, e);
+        }
+    }
+
+    /**
+     * 체크포인트부터 CRC가 맞는 레코드를 읽어 미반영 목록에 추가 (마지막 유효 레코드 다음 위치 반환)
+     */
+    private int replay(int checkpoint) {
+        int position = checkpoint;
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            int end = position + RECORD_HEADER_SIZE + length;
+            if (length <= 0 || end + Integer.BYTES > capacity) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                log.warn("주문 저널 {} 위치의 레코드가 손상되어 재생을 중단합니다.", position);
+                break;
+            }
+            try {
+                Order order = objectMapper.readValue(payload, Order.class);
+                pendingById.put(order.getId(), order);
+                pending.add(new Pending(order, end, true));
+            } catch (IOException e) {
+                log.warn("주문 저널 {} 위치의 레코드를 읽을 수 없어 재생을 중단합니다.", position);
+                break;
+            }
+            position = end;
+        }
+        // 끝나지 않은 레코드는 버리고 그 자리부터 다시 기록
+        buffer.putInt(position, 0);
+        return position;
+    }
+
+    /**
+     * 반영 대기 주문과 저널에서 그 레코드가 끝나는 위치 (replayed면 재시작 후 재생한 주문)
+     */
+    private record Pending(Order order, int end, boolean replayed) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.CursorPageDto;
+import com.example.easython.dto.OrderSearchRequestDto;
+import com.example.easython.dto.OrderSummaryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 주문 검색 (주문 기간, 상태, 가게, 테이블 조건)
+ *
+ * 조회는 주문 시간 내림차순 키셋 페이지(보관된 주문 포함)로, 내보내기는 Mongo 커서를 EXPORT_BATCH_SIZE건씩 읽으며
+ * 한 줄에 주문 하나씩(NDJSON) 바로 쓰므로 기간이 길어도 전체 주문을 메모리에 올리지 않는다. 보관된 주문이 포함되는
+ * 기간이면 두 컬렉션의 정렬된 커서를 병합해 내보내므로 조회와 같은 주문 시간 내림차순을 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderSearchService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderArchiveService orderArchiveService;
+
+    /**
+     * 조건에 맞는 주문 요약 페이지 조회
+     */
+    public CursorPageDto<OrderSummaryDto> search(OrderSearchRequestDto condition, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor after = OrderCursor.decode(cursor);
+
+        List<Criteria> criteria = criteriaOf(condition);
+        if (after != null) {
+            criteria.add(after.after());
+        }
+        TypedAggregation<Order> aggregation = Aggregation.newAggregation(Order.class,
+                Aggregation.match(new Criteria().andOperator(criteria)),
+                Aggregation.sort(OrderCursor.SORT),
+                Aggregation.limit(pageSize + 1),
+                OrderCursor.summaryProjection());
+        List<OrderSummaryDto> orders = orderArchiveService.fetchPage(
+                collection -> mongoTemplate.aggregate(aggregation, collection, OrderSummaryDto.class).getMappedResults(),
+                pageSize + 1);
+        return OrderCursor.page(orders, pageSize);
+    }
+
+    /**
+     * 검색 조건 확인 (내보내기는 응답을 쓰기 시작한 뒤에는 오류를 돌려줄 수 없으므로 미리 확인)
+     */
+    public void validate(OrderSearchRequestDto condition) {
+        criteriaOf(condition);
+    }
+
+    /**
+     * 조건에 맞는 주문 요약을 NDJSON으로 내보내기 (주문 시간 내림차순, 보관 구간이 포함되면 보관 컬렉션과 병합)
+     */
+    public void export(OrderSearchRequestDto condition, OutputStream out) throws IOException {
+        boolean includeArchive = condition.getFrom() == null || orderArchiveService.mayBeArchived(condition.getFrom());
+        TypedAggregation<Order> aggregation = Aggregation.newAggregation(Order.class,
+                        Aggregation.match(new Criteria().andOperator(criteriaOf(condition))),
+                        Aggregation.sort(OrderCursor.SORT),
+                        OrderCursor.summaryProjection())
+                .withOptions(AggregationOptions.builder().cursorBatchSize(EXPORT_BATCH_SIZE).build());
+
+        try (Stream<OrderSummaryDto> live = mongoTemplate.aggregateStream(aggregation,
+                     OrderArchiveService.LIVE_COLLECTION, OrderSummaryDto.class);
+             Stream<OrderSummaryDto> archived = includeArchive
+                     ? mongoTemplate.aggregateStream(aggregation, OrderArchiveService.ARCHIVE_COLLECTION,
+                     OrderSummaryDto.class)
+                     : Stream.empty();
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            Iterator<OrderSummaryDto> liveOrders = live.iterator();
+            Iterator<OrderSummaryDto> archivedOrders = archived.iterator();
+            OrderSummaryDto nextLive = next(liveOrders);
+            OrderSummaryDto nextArchived = next(archivedOrders);
+            String lastId = null;
+            while (nextLive != null || nextArchived != null) {
+                OrderSummaryDto order;
+                if (nextArchived == null || (nextLive != null && OrderCursor.ORDER.compare(nextLive, nextArchived) <= 0)) {
+                    order = nextLive;
+                    nextLive = next(liveOrders);
+                } else {
+                    order = nextArchived;
+                    nextArchived = next(archivedOrders);
+                }
+                // 보관 중인 주문은 두 컬렉션에 모두 있을 수 있음 (정렬 순서상 바로 이웃)
+                if (!order.getId().equals(lastId)) {
+                    writer.write(order);
+                    lastId = order.getId();
+                }
+            }
+        }
+    }
+
+    private static OrderSummaryDto next(Iterator<OrderSummaryDto> orders) {
+        return orders.hasNext() ? orders.next() : null;
+    }
+
+    private static List<Criteria> criteriaOf(OrderSearchRequestDto condition) {
+        if (condition.getFrom() != null && condition.getTo() != null && !condition.getFrom().isBefore(condition.getTo())) {
+            throw new RuntimeException("조회 시작 시간은 종료 시간보다 이전이어야 합니다.");
+        }
+
+        List<Criteria> criteria = new ArrayList<>();
+        // 키셋 커서는 주문 시간이 있는 주문만 다룸
+        Criteria orderedAt = Criteria.where("orderedAt").ne(null);
+        if (condition.getFrom() != null) {
+            orderedAt.gte(condition.getFrom());
+        }
+        if (condition.getTo() != null) {
+            orderedAt.lt(condition.getTo());
+        }
+        criteria.add(orderedAt);
+        if (condition.getStatus() != null && !condition.getStatus().isEmpty()) {
+            criteria.add(Criteria.where("status").in(condition.getStatus()));
+        }
+        if (condition.getRestaurantName() != null && !condition.getRestaurantName().isBlank()) {
+            criteria.add(Criteria.where("restaurantName").is(condition.getRestaurantName()));
+        }
+        if (condition.getTableId() != null && !condition.getTableId().isBlank()) {
+            criteria.add(Criteria.where("tableId").is(condition.getTableId()));
+        }
+        return criteria;
+    }
+}
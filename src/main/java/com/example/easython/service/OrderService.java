@@ -1,36 +1,70 @@
 package com.example.easython.service;
 
-import com.example.easython.domain.Menu;
 import com.example.easython.domain.Order;
 import com.example.easython.domain.OrderHistory;
 import com.example.easython.domain.Notification;
+import com.example.easython.dto.BulkStatusResultDto;
 import com.example.easython.dto.CartDto;
+import com.example.easython.dto.CursorPageDto;
+import com.example.easython.dto.MenuDto;
 import com.example.easython.dto.OrderDto;
 import com.example.easython.dto.OrderRequestDto;
-import com.example.easython.repository.MenuRepository;
+import com.example.easython.dto.OrderSummaryDto;
 import com.example.easython.repository.OrderRepository;
-import com.example.easython.repository.OrderHistoryRepository;
 import com.example.easython.repository.NotificationRepository;
 import com.example.easython.repository.TableRepository;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_BULK_ORDERS = 100;
+    // 일괄 변경은 주방 단말의 처리 단계로만 (결제·취소는 개별 API에서)
+    private static final Set<Order.OrderStatus> BULK_TARGETS = EnumSet.of(
+            Order.OrderStatus.PREPARING, Order.OrderStatus.READY, Order.OrderStatus.COMPLETED);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final long JOURNAL_DRAIN_INTERVAL_MILLIS = 50;
+
     private final OrderRepository orderRepository;
-    private final MenuRepository menuRepository;
     private final TableRepository tableRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
     private final NotificationRepository notificationRepository;
     private final CartService cartService;
+    private final MenuCatalog menuCatalog;
+    private final PickupNumberAllocator pickupNumberAllocator;
+    private final AdmissionControlService admissionControlService;
+    private final KitchenQueueService kitchenQueueService;
+    private final OrderArchiveService orderArchiveService;
+    private final OrderIntakeJournal orderIntakeJournal;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 장바구니에서 주문 생성
@@ -48,6 +82,9 @@ public class OrderService {
         var table = tableRepository.findById(tableId)
                 .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
 
+        // 주방 대기 주문이 많으면 주문을 만들지 않고 거절
+        admissionControlService.checkAdmission(table.getRestaurantName());
+
         // 주문 항목 생성
         List<Order.OrderItem> orderItems = cartDto.getItems().stream()
                 .map(cartItem -> Order.OrderItem.builder()
@@ -67,6 +104,8 @@ public class OrderService {
                 .userId(userId)
                 .tableId(table.getId())
                 .tableNumber(table.getTableNumber())
+                .restaurantName(table.getRestaurantName())
+                .pickupNumber(pickupNumberAllocator.allocate(table.getRestaurantName()))
                 .items(orderItems)
                 .totalPrice(cartDto.getTotalPrice())
                 .status(Order.OrderStatus.IN_CART) // 장바구니에서 생성된 주문
@@ -75,12 +114,7 @@ public class OrderService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
-
-        // 주문 이력 업데이트
-        updateOrderHistory(userId, orderItems);
-
-        return convertToDto(savedOrder);
+        return accept(order);
     }
 
     /**
@@ -92,11 +126,18 @@ public class OrderService {
         var table = tableRepository.findById(request.getTableId())
                 .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
 
+        // 주방 대기 주문이 많으면 주문을 만들지 않고 거절
+        admissionControlService.checkAdmission(table.getRestaurantName());
+
+        // 주문 메뉴 일괄 조회 (없는 메뉴가 있으면 전체 목록과 함께 실패)
+        Map<String, MenuDto> menus = menuCatalog.resolve(request.getItems().stream()
+                .map(OrderRequestDto.OrderItemRequestDto::getMenuId)
+                .toList());
+
         // 주문 항목 생성 및 총 가격 계산
         List<Order.OrderItem> orderItems = request.getItems().stream()
                 .map(itemRequest -> {
-                    Menu menu = menuRepository.findById(itemRequest.getMenuId())
-                            .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다: " + itemRequest.getMenuId()));
+                    MenuDto menu = menus.get(itemRequest.getMenuId());
 
                     return Order.OrderItem.builder()
                             .menuId(menu.getId())
@@ -120,6 +161,8 @@ public class OrderService {
                 .userId(userId)
                 .tableId(table.getId())
                 .tableNumber(table.getTableNumber())
+                .restaurantName(table.getRestaurantName())
+                .pickupNumber(pickupNumberAllocator.allocate(table.getRestaurantName()))
                 .items(orderItems)
                 .totalPrice(totalPrice)
                 .status(Order.OrderStatus.PENDING)
@@ -128,125 +171,349 @@ public class OrderService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        return accept(order);
+    }
+
+    /**
+     * 새 주문 저장 후 이벤트 발행 (주문 저널을 쓰면 저널에 추가하고 바로 응답, 저장과 주문 이력은 저널 반영 시 처리)
+     */
+    private OrderDto accept(Order order) {
+        if (orderIntakeJournal.append(order)) {
+            return publish(order);
+        }
         Order savedOrder = orderRepository.save(order);
 
         // 주문 이력 업데이트
-        updateOrderHistory(userId, orderItems);
+        updateOrderHistory(savedOrder.getUserId(), savedOrder.getItems());
 
-        return convertToDto(savedOrder);
+        return publish(savedOrder);
+    }
+
+    /**
+     * 주문 저널의 미반영 주문을 orders에 저장 (새로 저장된 주문만 주문 이력 반영)
+     *
+     * 재시작 후 재생한 주문은 접수 이벤트가 발행되지 않았으므로 저장한 뒤 이벤트를 발행해 주방 대기열 등에 반영한다.
+     */
+    @Scheduled(fixedDelay = JOURNAL_DRAIN_INTERVAL_MILLIS)
+    public void drainIntakeJournal() {
+        orderIntakeJournal.drain(
+                orders -> orders.forEach(order -> updateOrderHistory(order.getUserId(), order.getItems())),
+                orders -> orders.forEach(this::publish));
     }
 
     /**
      * 주문 완료 처리
      */
-    @Transactional
     public OrderDto completeOrder(String orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
-
-        order.setStatus(Order.OrderStatus.COMPLETED);
-        order.setCompletedAt(LocalDateTime.now());
-        order.setUpdatedAt(LocalDateTime.now());
-
-        Order savedOrder = orderRepository.save(order);
+        LocalDateTime now = LocalDateTime.now();
+        Order order = transition(orderId, Order.OrderStatus.COMPLETED, now);
 
         // 알림 생성
-        Notification notification = Notification.builder()
-                .userId(order.getUserId())
-                .orderId(order.getId())
-                .title("주문 완료")
-                .message("주문이 완료되었습니다.")
-                .type(Notification.NotificationType.ORDER_COMPLETED)
-                .isRead(false)
-                .createdAt(LocalDateTime.now())
-                .build();
-        notificationRepository.save(notification);
+        notificationRepository.save(statusNotification(order.getUserId(), order.getId(), Order.OrderStatus.COMPLETED, now));
+
+        return publish(order);
+    }
 
-        return convertToDto(savedOrder);
+    /**
+     * 주문 조리 시작 처리
+     */
+    public OrderDto prepareOrder(String orderId) {
+        Order order = transition(orderId, Order.OrderStatus.PREPARING, LocalDateTime.now());
+        return publish(order);
     }
 
     /**
      * 주문 준비 완료 처리
      */
-    @Transactional
     public OrderDto readyOrder(String orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
+        LocalDateTime now = LocalDateTime.now();
+        Order order = transition(orderId, Order.OrderStatus.READY, now);
 
-        order.setStatus(Order.OrderStatus.READY);
-        order.setUpdatedAt(LocalDateTime.now());
+        // 알림 생성
+        notificationRepository.save(statusNotification(order.getUserId(), order.getId(), Order.OrderStatus.READY, now));
 
-        Order savedOrder = orderRepository.save(order);
+        return publish(order);
+    }
 
-        // 알림 생성
-        Notification notification = Notification.builder()
-                .userId(order.getUserId())
-                .orderId(order.getId())
-                .title("주문 준비 완료")
-                .message("주문이 준비되었습니다. 받으러 와주세요.")
-                .type(Notification.NotificationType.ORDER_READY)
-                .isRead(false)
-                .createdAt(LocalDateTime.now())
+    /**
+     * 여러 주문 상태 일괄 변경 (updateMulti 한 번으로 변경하고 알림은 insertAll 한 번으로 저장)
+     *
+     * 주방 대기열에 있는 주문은 메모리의 상태로 변경 가능 여부를 판단하고, 대기열에 없는 주문만 한 번에 조회한다.
+     * 변경 시 이번 요청의 ID를 함께 기록하고, 실제 변경 건수가 예상과 다를 때만 그 ID로 바뀐 주문 ID를 다시 조회한다.
+     */
+    public BulkStatusResultDto bulkTransition(List<String> orderIds, Order.OrderStatus target) {
+        if (!BULK_TARGETS.contains(target)) {
+            throw new RuntimeException("일괄 변경은 " + BULK_TARGETS + " 상태로만 할 수 있습니다.");
+        }
+        List<String> ids = orderIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new RuntimeException("변경할 주문이 없습니다.");
+        }
+        if (ids.size() > MAX_BULK_ORDERS) {
+            throw new RuntimeException("한 번에 최대 " + MAX_BULK_ORDERS + "건까지 변경할 수 있습니다.");
+        }
+
+        // 주문 저널에만 있는 주문은 orders에 먼저 반영
+        if (ids.stream().anyMatch(orderIntakeJournal::isPending)) {
+            drainIntakeJournal();
+        }
+
+        // 현재 상태 확인
+        Map<String, OrderDto> candidates = new LinkedHashMap<>();
+        List<String> unknownIds = new ArrayList<>();
+        for (String id : ids) {
+            OrderDto active = kitchenQueueService.findActive(id);
+            if (active != null) {
+                candidates.put(id, active);
+            } else {
+                unknownIds.add(id);
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(unknownIds)), Order.class)
+                    .forEach(order -> candidates.put(order.getId(), toDto(order)));
+        }
+
+        Set<Order.OrderStatus> allowedFrom = target.allowedFrom();
+        List<String> eligibleIds = candidates.values().stream()
+                .filter(order -> allowedFrom.contains(order.getStatus()))
+                .map(OrderDto::getId)
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderDto> updated = new ArrayList<>();
+        if (!eligibleIds.isEmpty()) {
+            String transitionId = new ObjectId().toHexString();
+            UpdateResult result = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(eligibleIds).and("status").in(allowedFrom)),
+                    statusUpdate(target, now).set("lastTransitionId", transitionId),
+                    Order.class);
+
+            List<String> modifiedIds = eligibleIds;
+            if (result.getModifiedCount() != eligibleIds.size()) {
+                // 그 사이 다른 단말이 상태를 바꾼 주문이 있으면 이번 변경 ID가 기록된 주문만 사용
+                Query modified = Query.query(Criteria.where("_id").in(eligibleIds)
+                        .and("lastTransitionId").is(transitionId));
+                modified.fields().include("_id");
+                modifiedIds = mongoTemplate.find(modified, Order.class).stream()
+                        .map(Order::getId)
+                        .toList();
+            }
+            for (String id : modifiedIds) {
+                updated.add(withStatus(candidates.get(id), target, now));
+            }
+        }
+
+        // 알림 일괄 저장
+        List<Notification> notifications = updated.stream()
+                .map(order -> statusNotification(order.getUserId(), order.getId(), target, now))
+                .filter(Objects::nonNull)
+                .toList();
+        if (!notifications.isEmpty()) {
+            mongoTemplate.insertAll(notifications);
+        }
+
+        updated.forEach(order -> eventPublisher.publishEvent(new OrderChangedEvent(order)));
+
+        Set<String> updatedIds = updated.stream().map(OrderDto::getId).collect(Collectors.toSet());
+        return BulkStatusResultDto.builder()
+                .status(target)
+                .updatedOrders(updated)
+                .failedOrderIds(ids.stream().filter(id -> !updatedIds.contains(id)).toList())
+                .build();
+    }
+
+    /**
+     * 주문 상태 변경 (현재 상태가 허용된 이전 상태일 때만 한 번의 findAndModify로 변경하고 변경된 주문 반환)
+     *
+     * 여러 주방 단말이 동시에 같은 주문을 바꿔도 조건을 만족한 요청 하나만 반영된다.
+     */
+    Order transition(String orderId, Order.OrderStatus target, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("_id").is(orderId).and("status").in(target.allowedFrom()));
+        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
+        Order order = mongoTemplate.findAndModify(query, statusUpdate(target, now), options, Order.class);
+        if (order != null) {
+            return order;
+        }
+
+        // 주문 저널에만 있는 주문이면 orders에 반영한 뒤 다시 시도
+        if (orderIntakeJournal.isPending(orderId)) {
+            drainIntakeJournal();
+            order = mongoTemplate.findAndModify(query, statusUpdate(target, now), options, Order.class);
+            if (order != null) {
+                return order;
+            }
+        }
+
+        // 조건 불일치 원인 확인 (주문 없음 또는 허용되지 않는 상태)
+        Order current = orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
+        throw new RuntimeException("주문 상태를 " + current.getStatus() + "에서 " + target + "(으)로 변경할 수 없습니다.");
+    }
+
+    /**
+     * 상태 변경 내용 (상태별 시간 기록 포함)
+     */
+    private static Update statusUpdate(Order.OrderStatus target, LocalDateTime now) {
+        Update update = new Update().set("status", target).set("updatedAt", now);
+        if (target == Order.OrderStatus.READY) {
+            update.set("readyAt", now);
+        } else if (target == Order.OrderStatus.COMPLETED) {
+            update.set("completedAt", now);
+        }
+        return update;
+    }
+
+    /**
+     * 메모리의 주문 DTO에 변경된 상태 반영 (공유 중인 DTO는 수정하지 않고 복사)
+     */
+    private static OrderDto withStatus(OrderDto order, Order.OrderStatus target, LocalDateTime now) {
+        return order.toBuilder()
+                .status(target)
+                .readyAt(target == Order.OrderStatus.READY ? now : order.getReadyAt())
+                .completedAt(target == Order.OrderStatus.COMPLETED ? now : order.getCompletedAt())
                 .build();
-        notificationRepository.save(notification);
+    }
 
-        return convertToDto(savedOrder);
+    /**
+     * 상태 변경 알림 (알림 대상이 아닌 상태면 null)
+     */
+    private static Notification statusNotification(String userId, String orderId, Order.OrderStatus status,
+                                                   LocalDateTime now) {
+        Notification.NotificationBuilder builder = Notification.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .isRead(false)
+                .createdAt(now);
+        return switch (status) {
+            case READY -> builder
+                    .title("주문 준비 완료")
+                    .message("주문이 준비되었습니다. 받으러 와주세요.")
+                    .type(Notification.NotificationType.ORDER_READY)
+                    .build();
+            case COMPLETED -> builder
+                    .title("주문 완료")
+                    .message("주문이 완료되었습니다.")
+                    .type(Notification.NotificationType.ORDER_COMPLETED)
+                    .build();
+            default -> null;
+        };
     }
 
     /**
-     * 사용자별 주문 조회
+     * 사용자별 최근 주문 조회 (최신 주문 MAX_PAGE_SIZE건까지, 이전 주문과 보관된 주문은 getOrderPage 사용)
      */
     @Transactional(readOnly = true)
     public List<OrderDto> getOrdersByUserId(String userId) {
-        List<Order> orders = orderRepository.findByUserId(userId);
-        return orders.stream()
-                .map(this::convertToDto)
+        // 주문 저널에만 있는 주문이 있으면 orders에 먼저 반영
+        if (orderIntakeJournal.hasPendingFor(userId)) {
+            drainIntakeJournal();
+        }
+        return orderRepository.findByUserIdOrderByOrderedAtDesc(userId, PageRequest.of(0, MAX_PAGE_SIZE)).stream()
+                .map(OrderService::toDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자별 주문 목록 페이지 조회 (주문 시간 내림차순 키셋 페이지)
+     *
+     * 기본은 목록 화면용 요약(항목 수만 포함)을 aggregation projection으로 읽고, includeItems면 주문 항목까지 읽는다.
+     * 다음 페이지 여부는 size + 1건을 읽어 판단하고, 보관된 주문이 끼어들 수 있는 구간이면 보관 컬렉션도 함께 읽는다.
+     */
+    public CursorPageDto<OrderSummaryDto> getOrderPage(String userId, String cursor, int size, boolean includeItems) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor after = OrderCursor.decode(cursor);
+        if (orderIntakeJournal.hasPendingFor(userId)) {
+            drainIntakeJournal();
+        }
+
+        Criteria owner = Criteria.where("userId").is(userId).and("orderedAt").ne(null);
+        Criteria criteria = after != null ? new Criteria().andOperator(owner, after.after()) : owner;
+
+        List<OrderSummaryDto> orders = orderArchiveService.fetchPage(collection -> {
+            if (includeItems) {
+                Query query = Query.query(criteria).with(OrderCursor.SORT).limit(pageSize + 1);
+                return mongoTemplate.find(query, Order.class, collection).stream()
+                        .map(OrderService::toSummaryDto)
+                        .toList();
+            }
+            TypedAggregation<Order> aggregation = Aggregation.newAggregation(Order.class,
+                    Aggregation.match(criteria),
+                    Aggregation.sort(OrderCursor.SORT),
+                    Aggregation.limit(pageSize + 1),
+                    OrderCursor.summaryProjection());
+            return mongoTemplate.aggregate(aggregation, collection, OrderSummaryDto.class).getMappedResults();
+        }, pageSize + 1);
+        return OrderCursor.page(orders, pageSize);
+    }
+
     /**
      * 주문 ID로 조회
      */
     @Transactional(readOnly = true)
     public OrderDto getOrderById(String orderId) {
         Order order = orderRepository.findById(orderId)
+                .or(() -> orderIntakeJournal.findPending(orderId))
+                .or(() -> orderArchiveService.findById(orderId))
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
-        return convertToDto(order);
+        return toDto(order);
+    }
+
+    private static OrderSummaryDto toSummaryDto(Order order) {
+        OrderDto dto = toDto(order);
+        return OrderSummaryDto.builder()
+                .id(dto.getId())
+                .restaurantName(dto.getRestaurantName())
+                .pickupNumber(dto.getPickupNumber())
+                .status(dto.getStatus())
+                .totalPrice(dto.getTotalPrice())
+                .orderedAt(dto.getOrderedAt())
+                .itemCount(dto.getItems() != null ? dto.getItems().size() : 0)
+                .items(dto.getItems())
+                .build();
     }
 
     /**
-     * 주문 이력 업데이트
+     * 주문 이력 업데이트 (메뉴별 upsert + $inc를 한 번의 bulk write로 처리)
      */
-    private void updateOrderHistory(String userId, List<Order.OrderItem> orderItems) {
+    void updateOrderHistory(String userId, List<Order.OrderItem> orderItems) {
+        // 같은 메뉴가 여러 줄이면 수량을 합쳐 메뉴당 upsert 한 번만 수행
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        Map<String, String> menuNames = new HashMap<>();
         for (Order.OrderItem item : orderItems) {
-            orderHistoryRepository.findByUserIdAndMenuId(userId, item.getMenuId())
-                    .ifPresentOrElse(
-                            history -> {
-                                history.setOrderCount(history.getOrderCount() + item.getQuantity());
-                                history.setLastOrderedAt(LocalDateTime.now());
-                                history.setUpdatedAt(LocalDateTime.now());
-                                orderHistoryRepository.save(history);
-                            },
-                            () -> {
-                                OrderHistory newHistory = OrderHistory.builder()
-                                        .userId(userId)
-                                        .menuId(item.getMenuId())
-                                        .menuName(item.getMenuName())
-                                        .orderCount(item.getQuantity())
-                                        .lastOrderedAt(LocalDateTime.now())
-                                        .createdAt(LocalDateTime.now())
-                                        .updatedAt(LocalDateTime.now())
-                                        .build();
-                                orderHistoryRepository.save(newHistory);
-                            }
-                    );
+            quantities.merge(item.getMenuId(), item.getQuantity(), Integer::sum);
+            menuNames.put(item.getMenuId(), item.getMenuName());
         }
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderHistory.class);
+        quantities.forEach((menuId, quantity) -> bulkOps.upsert(
+                Query.query(Criteria.where("userId").is(userId).and("menuId").is(menuId)),
+                new Update()
+                        .inc("orderCount", quantity)
+                        .set("menuName", menuNames.get(menuId))
+                        .set("lastOrderedAt", now)
+                        .set("updatedAt", now)
+                        .setOnInsert("createdAt", now)));
+        bulkOps.execute();
+    }
+
+    /**
+     * 변경된 주문을 DTO로 변환하고 주문 변경 이벤트 발행
+     */
+    OrderDto publish(Order order) {
+        OrderDto orderDto = toDto(order);
+        eventPublisher.publishEvent(new OrderChangedEvent(orderDto));
+        return orderDto;
     }
 
     /**
      * Order 엔티티를 OrderDto로 변환
      */
-    private OrderDto convertToDto(Order order) {
+    static OrderDto toDto(Order order) {
         List<OrderDto.OrderItemDto> items = order.getItems().stream()
                 .map(item -> OrderDto.OrderItemDto.builder()
                         .menuId(item.getMenuId())
@@ -265,10 +532,13 @@ public class OrderService {
                 .userId(order.getUserId())
                 .tableId(order.getTableId())
                 .tableNumber(order.getTableNumber())
+                .restaurantName(order.getRestaurantName())
+                .pickupNumber(order.getPickupNumber())
                 .items(items)
                 .totalPrice(order.getTotalPrice())
                 .status(order.getStatus())
                 .orderedAt(order.getOrderedAt())
+                .readyAt(order.getReadyAt())
                 .completedAt(order.getCompletedAt())
                 .build();
     }
@@ -1,19 +1,13 @@
 package com.example.easython.service;
 
-import com.example.easython.domain.Order;
 import com.example.easython.domain.Payment;
-import com.example.easython.domain.Table;
-import com.example.easython.dto.OrderDto;
 import com.example.easython.dto.PaymentDto;
 import com.example.easython.dto.PaymentRequestDto;
-import com.example.easython.repository.OrderRepository;
 import com.example.easython.repository.PaymentRepository;
-import com.example.easython.repository.TableRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,68 +16,14 @@ import java.util.stream.Collectors;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final OrderRepository orderRepository;
-    private final TableRepository tableRepository;
-    private final CartService cartService;
-    private final OrderService orderService;
+    private final CheckoutService checkoutService;
 
     /**
-     * 결제 생성 및 처리 (장바구니에서 주문 자동 생성 후 결제)
+     * 결제 생성 및 처리 (장바구니에서 결제 완료 주문을 생성하고 결제와 함께 한 번에 저장)
      */
-    @Transactional
     public PaymentDto processPayment(String userId, PaymentRequestDto request) {
-        // 테이블 조회
-        Table table = tableRepository.findById(request.getTableId())
-                .orElseThrow(() -> new RuntimeException("테이블을 찾을 수 없습니다."));
-
-        // 장바구니 조회
-        var cartDto = cartService.getCart(userId, request.getTableId());
-        
-        if (cartDto.getItems() == null || cartDto.getItems().isEmpty()) {
-            throw new RuntimeException("장바구니가 비어있습니다.");
-        }
-
-        // 장바구니 금액 검증
-        if (cartDto.getTotalPrice().compareTo(request.getAmount()) != 0) {
-            throw new RuntimeException("결제 금액이 장바구니 총 금액과 일치하지 않습니다.");
-        }
-
-        // 주문 자동 생성 (장바구니에서)
-        var orderDto = orderService.createOrderFromCart(userId, request.getTableId());
-        
-        // 주문 조회 (생성된 주문)
-        Order order = orderRepository.findById(orderDto.getId())
-                .orElseThrow(() -> new RuntimeException("주문 생성 실패"));
-
-        // 결제 생성
-        Payment payment = Payment.builder()
-                .orderId(order.getId())
-                .userId(userId)
-                .tableId(request.getTableId())
-                .amount(request.getAmount())
-                .paymentMethod(request.getPaymentMethod())
-                .status(Payment.PaymentStatus.COMPLETED)
-                .paidAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        Payment savedPayment = paymentRepository.save(payment);
-
-        // 주문 상태를 결제 완료로 변경
-        order.setStatus(Order.OrderStatus.PAYED);
-        order.setUpdatedAt(LocalDateTime.now());
-        orderRepository.save(order);
-
-        // 테이블 상태를 이용 중으로 변경 (결제 완료 시 점유)
-        table.setIsAvailable(false);
-        table.setUpdatedAt(LocalDateTime.now());
-        tableRepository.save(table);
-
-        // 장바구니 비우기 (이미 OrderService에서 처리되었을 수도 있지만 확실히)
-        cartService.clearCart(userId, request.getTableId());
-
-        return convertToDto(savedPayment);
+        Payment payment = checkoutService.checkout(userId, request);
+        return convertToDto(payment);
     }
 
     /**
@@ -0,0 +1,187 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.ApiResponse;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.dto.PickupBoardDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가게별 픽업 전광판 (준비 완료 주문 목록)
+ *
+ * 주문이 준비 완료되거나 완료될 때만 가게별 불변 스냅샷을 다시 만들고, 조회 요청은 미리 직렬화된
+ * 같은 바이트 배열을 그대로 응답한다. 조회 시 orders 컬렉션은 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PickupBoardService {
+
+    private static final String TOPIC_PREFIX = "pickup:";
+    private static final String UNKNOWN_RESTAURANT = "";
+    private static final int MAX_EMPTY_BOARDS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseHub sseHub;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 가게별 준비 완료 주문 (변경은 synchronized 메서드에서만)
+    private final Map<String, Map<String, PickupBoardDto.PickupEntryDto>> readyOrders = new HashMap<>();
+    // 가게별 최신 스냅샷 (조회는 락 없이)
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    // 준비 완료 주문이 없었던 가게의 빈 전광판 (요청 경로의 가게 이름이므로 최대 개수까지만 보관)
+    private final Map<String, Board> emptyBoards = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 준비 완료 주문으로 전광판 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        List<Order> orders = mongoTemplate.find(
+                Query.query(Criteria.where("status").is(Order.OrderStatus.READY)), Order.class);
+        for (Order order : orders) {
+            readyOrders.computeIfAbsent(restaurantOf(order.getRestaurantName()), name -> new HashMap<>())
+                    .putIfAbsent(order.getId(), PickupBoardDto.PickupEntryDto.builder()
+                            .orderId(order.getId())
+                            .pickupNumber(order.getPickupNumber())
+                            .tableNumber(order.getTableNumber())
+                            .readyAt(readyAtOf(order.getReadyAt(), order.getUpdatedAt()))
+                            .build());
+        }
+        readyOrders.keySet().forEach(this::rebuild);
+        log.info("픽업 전광판 구성 완료 (준비 완료 주문 {}건)", orders.size());
+    }
+
+    /**
+     * 준비 완료 주문 추가 / 완료·취소 주문 제거 후 전광판 재구성
+     */
+    @EventListener
+    public synchronized void onOrderChanged(OrderChangedEvent event) {
+        OrderDto order = event.order();
+        String restaurantName = restaurantOf(order.getRestaurantName());
+        Map<String, PickupBoardDto.PickupEntryDto> entries = readyOrders.get(restaurantName);
+
+        if (order.getStatus() == Order.OrderStatus.READY) {
+            if (entries == null) {
+                entries = new HashMap<>();
+                readyOrders.put(restaurantName, entries);
+            }
+            if (entries.containsKey(order.getId())) {
+                return;
+            }
+            entries.put(order.getId(), PickupBoardDto.PickupEntryDto.builder()
+                    .orderId(order.getId())
+                    .pickupNumber(order.getPickupNumber())
+                    .tableNumber(order.getTableNumber())
+                    .readyAt(readyAtOf(order.getReadyAt(), LocalDateTime.now()))
+                    .build());
+        } else if (entries == null || entries.remove(order.getId()) == null) {
+            return;
+        }
+
+        Board board = rebuild(restaurantName);
+        sseHub.publish(TOPIC_PREFIX + restaurantName, "board", board.payload());
+    }
+
+    /**
+     * 가게별 전광판 스냅샷 조회
+     */
+    public Board getBoard(String restaurantName) {
+        Board board = boards.get(restaurantName);
+        if (board != null) {
+            return board;
+        }
+        // 준비 완료 주문이 없었던 가게는 빈 전광판을 한 번만 직렬화해 재사용
+        board = emptyBoards.get(restaurantName);
+        if (board != null) {
+            return board;
+        }
+        board = Board.of(0L, restaurantName, List.of(), null, objectMapper);
+        if (emptyBoards.size() < MAX_EMPTY_BOARDS) {
+            Board existing = emptyBoards.putIfAbsent(restaurantName, board);
+            return existing != null ? existing : board;
+        }
+        return board;
+    }
+
+    /**
+     * 가게별 전광판 구독 (변경될 때마다 "board" 이벤트로 전체 전광판 전송)
+     */
+    public SseEmitter subscribe(String restaurantName) {
+        return sseHub.subscribe(TOPIC_PREFIX + restaurantName, "board", () -> getBoard(restaurantName).payload());
+    }
+
+    private Board rebuild(String restaurantName) {
+        List<PickupBoardDto.PickupEntryDto> entries = readyOrders.getOrDefault(restaurantName, Map.of()).values()
+                .stream()
+                .sorted(Comparator.comparing(PickupBoardDto.PickupEntryDto::getReadyAt,
+                        Comparator.nullsFirst(LocalDateTime::compareTo)))
+                .toList();
+        Board board = Board.of(versionSequence.incrementAndGet(), restaurantName, entries, LocalDateTime.now(),
+                objectMapper);
+        boards.put(restaurantName, board);
+        return board;
+    }
+
+    /**
+     * 전광판 표시용 준비 완료 시간 (주문에 기록된 readyAt 우선)
+     */
+    private static LocalDateTime readyAtOf(LocalDateTime readyAt, LocalDateTime fallback) {
+        return readyAt != null ? readyAt : fallback;
+    }
+
+    private static String restaurantOf(String restaurantName) {
+        return Objects.requireNonNullElse(restaurantName, UNKNOWN_RESTAURANT);
+    }
+
+    /**
+     * 불변 전광판 스냅샷 (SSE용 전광판 JSON, HTTP 응답 본문, ETag)
+     */
+    public record Board(long version, String payload, byte[] json, String etag) {
+
+        static Board of(long version, String restaurantName, List<PickupBoardDto.PickupEntryDto> entries,
+                        LocalDateTime updatedAt, ObjectMapper objectMapper) {
+            PickupBoardDto board = PickupBoardDto.builder()
+                    .restaurantName(restaurantName)
+                    .version(version)
+                    .readyOrders(entries)
+                    .updatedAt(updatedAt)
+                    .build();
+            try {
+                String payload = objectMapper.writeValueAsString(board);
+                byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success("픽업 전광판 조회 성공", board));
+                return new Board(version, payload, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("픽업 전광판 직렬화에 실패했습니다.", e);
+            }
+        }
+
+        /**
+         * If-None-Match 헤더가 현재 전광판과 일치하는지 확인
+         */
+        public boolean matches(String ifNoneMatch) {
+            return ETags.matches(ifNoneMatch, etag);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.PickupSequence;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가게별 일일 픽업 번호 발급
+ *
+ * pickup_sequences 문서(가게 이름:날짜)에서 번호를 BLOCK_SIZE개씩 임대해 메모리에서 나눠 주므로
+ * 주문마다 DB 쓰기가 생기지 않는다. 남은 번호가 적어지면 다음 블록을 미리 임대하고, 날짜가 바뀌면 1번부터 다시 시작한다.
+ * 여러 인스턴스가 실행되면 인스턴스마다 다른 블록을 쓰므로 번호는 겹치지 않지만 발급 순서와 일치하지 않을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PickupNumberAllocator {
+
+    private static final int BLOCK_SIZE = 50;
+    private static final int PREFETCH_THRESHOLD = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pickup-number-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 오늘 날짜 기준 가게별 다음 픽업 번호 발급
+     */
+    public int allocate(String restaurantName) {
+        String restaurant = Objects.requireNonNullElse(restaurantName, "");
+        Lease lease = leases.computeIfAbsent(restaurant, key -> new Lease());
+        LocalDate today = LocalDate.now();
+
+        synchronized (lease) {
+            // 날짜가 바뀌면 이전 날짜의 블록은 버림
+            if (!today.equals(lease.date)) {
+                lease.date = today;
+                lease.current = null;
+                lease.prefetched = null;
+            }
+
+            if (lease.current == null || lease.current.isExhausted()) {
+                lease.current = nextBlock(lease, restaurant, today);
+            }
+            int number = lease.current.next++;
+
+            if (lease.current.remaining() <= PREFETCH_THRESHOLD && lease.prefetched == null) {
+                lease.prefetched = CompletableFuture.supplyAsync(() -> leaseBlock(restaurant, today), prefetcher);
+            }
+            return number;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetcher.shutdownNow();
+    }
+
+    private Block nextBlock(Lease lease, String restaurant, LocalDate date) {
+        CompletableFuture<Block> prefetched = lease.prefetched;
+        lease.prefetched = null;
+        if (prefetched != null) {
+            try {
+                return prefetched.join();
+            } catch (RuntimeException e) {
+                log.warn("픽업 번호 선임대 실패로 다시 임대 ({}): {}", restaurant, e.getMessage());
+            }
+        }
+        return leaseBlock(restaurant, date);
+    }
+
+    /**
+     * 시퀀스 문서에서 번호 블록 임대 (findAndModify $inc 한 번)
+     */
+    private Block leaseBlock(String restaurant, LocalDate date) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(restaurant + ":" + date));
+        Update update = new Update()
+                .inc("lastNumber", BLOCK_SIZE)
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+
+        PickupSequence sequence;
+        try {
+            sequence = mongoTemplate.findAndModify(query, update, options, PickupSequence.class);
+        } catch (DuplicateKeyException e) {
+            // 같은 문서를 동시에 처음 만들려다 실패한 경우 한 번 더 시도
+            sequence = mongoTemplate.findAndModify(query, update, options, PickupSequence.class);
+        }
+        int last = sequence.getLastNumber();
+        return new Block(last - BLOCK_SIZE + 1, last);
+    }
+
+    /**
+     * 가게별 임대 상태 (오늘 날짜, 사용 중인 블록, 미리 임대 중인 블록)
+     */
+    private static final class Lease {
+        private LocalDate date;
+        private Block current;
+        private CompletableFuture<Block> prefetched;
+    }
+
+    /**
+     * 임대한 번호 구간 [next, end]
+     */
+    private static final class Block {
+        private int next;
+        private final int end;
+
+        private Block(int start, int end) {
+            this.next = start;
+            this.end = end;
+        }
+
+        boolean isExhausted() {
+            return next > end;
+        }
+
+        int remaining() {
+            return end - next + 1;
+        }
+    }
+}
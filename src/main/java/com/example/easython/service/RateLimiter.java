@@ -0,0 +1,154 @@
+package com.example.easython.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자·요청 종류별 토큰 버킷 요청 제한
+ *
+ * 버킷은 키 해시로 나눈 STRIPES개의 구간에 나눠 두고 구간별 락으로 보호하므로 서로 다른 사용자 요청끼리는 거의 경합하지 않는다.
+ * 버킷 하나는 토큰 수와 마지막 충전 시각만 가지며 요청 때마다 지난 시간만큼 충전한다(O(1)). 가득 찬 버킷은 없는 것과 같으므로
+ * 주기적으로 지우고, 구간별 버킷 수가 한도를 넘으면 가장 오래 쓰지 않은 버킷부터 지운다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    /**
+     * 요청 제한 대상 종류
+     */
+    public enum Endpoint {
+        CHAT, // AI 채팅 (LLM 호출)
+        ORDER // 주문 생성, 결제
+    }
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.chat.capacity:5}")
+    private int chatCapacity;
+
+    @Value("${rate-limit.chat.refill-per-minute:10}")
+    private int chatRefillPerMinute;
+
+    @Value("${rate-limit.order.capacity:10}")
+    private int orderCapacity;
+
+    @Value("${rate-limit.order.refill-per-minute:30}")
+    private int orderRefillPerMinute;
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    private final Limit[] limits = new Limit[Endpoint.values().length];
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    @PostConstruct
+    public void init() {
+        limits[Endpoint.CHAT.ordinal()] = new Limit(chatCapacity, chatRefillPerMinute);
+        limits[Endpoint.ORDER.ordinal()] = new Limit(orderCapacity, orderRefillPerMinute);
+        int maxPerStripe = Math.max(1, maxBuckets / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+    }
+
+    /**
+     * 토큰 하나 사용 (허용되면 0, 제한되면 다음 토큰까지 남은 초)
+     */
+    public long tryAcquire(Endpoint endpoint, String userId) {
+        if (!enabled) {
+            return 0;
+        }
+        Limit limit = limits[endpoint.ordinal()];
+        String key = endpoint.ordinal() + ":" + userId;
+        Stripe stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+        long now = System.nanoTime();
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(endpoint, limit.capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+            bucket.refill(limit, now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            double waitNanos = (1 - bucket.tokens) / limit.tokensPerNano;
+            return Math.max(1, (long) Math.ceil(waitNanos / 1_000_000_000));
+        }
+    }
+
+    /**
+     * 다시 가득 찬 버킷 제거 (가득 찬 버킷은 새 버킷과 같음)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Iterator<Bucket> iterator = stripe.buckets.values().iterator(); iterator.hasNext(); ) {
+                    Bucket bucket = iterator.next();
+                    Limit limit = limits[bucket.endpoint.ordinal()];
+                    bucket.refill(limit, now);
+                    if (bucket.tokens >= limit.capacity) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 종류별 버킷 크기와 충전 속도
+     */
+    private record Limit(int capacity, double tokensPerNano) {
+
+        Limit(int capacity, int refillPerMinute) {
+            this(capacity, (double) refillPerMinute / NANOS_PER_MINUTE);
+        }
+    }
+
+    /**
+     * 같은 락을 쓰는 버킷 묶음 (접근 순서 유지, 한도를 넘으면 가장 오래 쓰지 않은 버킷 제거)
+     */
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private final Endpoint endpoint;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(Endpoint endpoint, int capacity, long now) {
+            this.endpoint = endpoint;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        void refill(Limit limit, long now) {
+            tokens = Math.min(limit.capacity(), tokens + (now - refilledAt) * limit.tokensPerNano());
+            refilledAt = now;
+        }
+    }
+}
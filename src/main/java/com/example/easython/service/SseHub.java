@@ -0,0 +1,182 @@
+package com.example.easython.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 토픽별 SSE 구독 관리
+ *
+ * 구독자마다 전송 대기열을 두고 작은 전송 스레드 풀에서 구독자별로 순서대로 보내므로, 느린 구독자가 주문/결제 요청이나
+ * 다른 구독자의 전송을 막지 않고 구독 시 보내는 초기 데이터도 이후 변경분보다 먼저 도착한다.
+ * 대기열이 MAX_QUEUED_EVENTS건을 넘은 구독자는 따라오지 못하는 것으로 보고 연결을 끊는다(재연결 시 초기 데이터부터 다시 받음).
+ */
+@Slf4j
+@Component
+public class SseHub {
+
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final int SENDER_THREADS = 4;
+    private static final int MAX_QUEUED_EVENTS = 100;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger senderCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "sse-hub-" + senderCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 토픽 구독 (구독 직후 초기 데이터 전송)
+     */
+    public SseEmitter subscribe(String topic, String eventName, Supplier<Object> initialData) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(topic, emitter);
+        // 초기 데이터를 먼저 대기열에 넣은 뒤 구독 목록에 추가해야 변경분보다 먼저 전송됨
+        subscriber.offer(() -> SseEmitter.event().name(eventName).data(initialData.get(), MediaType.APPLICATION_JSON));
+        subscribers.compute(topic, (key, topicSubscribers) -> {
+            Set<Subscriber> result = topicSubscribers != null ? topicSubscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 토픽 구독자 전체에게 이벤트 전송
+     */
+    public void publish(String topic, String eventName, Object data) {
+        Set<Subscriber> topicSubscribers = subscribers.get(topic);
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : topicSubscribers) {
+            subscriber.offer(() -> SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 토픽 구독자 수
+     */
+    public int subscriberCount(String topic) {
+        Set<Subscriber> topicSubscribers = subscribers.get(topic);
+        return topicSubscribers != null ? topicSubscribers.size() : 0;
+    }
+
+    /**
+     * 프록시/브라우저가 유휴 연결을 끊지 않도록 주기적으로 코멘트 전송
+     */
+    @Scheduled(fixedDelay = 15_000)
+    public void heartbeat() {
+        subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(subscriber ->
+                subscriber.offer(() -> SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(topicSubscribers ->
+                topicSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.topic, (key, topicSubscribers) -> {
+            topicSubscribers.remove(subscriber);
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+    /**
+     * 구독자 하나의 전송 대기열 (한 번에 한 스레드만 보내므로 구독자별 순서 유지)
+     */
+    private final class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(String topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        void offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > MAX_QUEUED_EVENTS) {
+                log.debug("SSE 전송 대기열 초과로 구독 해제 ({})", topic);
+                close(null);
+                return;
+            }
+            events.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // 종료 중이면 전송하지 않음
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while (!closed && (event = events.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event.get());
+                } catch (IOException | RuntimeException e) {
+                    log.debug("SSE 전송 실패로 구독 해제 ({}): {}", topic, e.getMessage());
+                    close(e);
+                }
+            }
+            sending.set(false);
+            // 전송을 끝내는 사이에 들어온 이벤트가 있으면 다시 예약
+            if (!closed && !events.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close(Throwable error) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            events.clear();
+            unsubscribe(this);
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        }
+    }
+}
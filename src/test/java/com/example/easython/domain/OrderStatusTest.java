@@ -0,0 +1,58 @@
+package com.example.easython.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static com.example.easython.domain.Order.OrderStatus.CANCELLED;
+import static com.example.easython.domain.Order.OrderStatus.COMPLETED;
+import static com.example.easython.domain.Order.OrderStatus.CONFIRMED;
+import static com.example.easython.domain.Order.OrderStatus.IN_CART;
+import static com.example.easython.domain.Order.OrderStatus.PAYED;
+import static com.example.easython.domain.Order.OrderStatus.PENDING;
+import static com.example.easython.domain.Order.OrderStatus.PREPARING;
+import static com.example.easython.domain.Order.OrderStatus.READY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusTest {
+
+	@Test
+	void completedOnlyFromReady() {
+		assertThat(COMPLETED.allowedFrom()).containsExactly(READY);
+	}
+
+	@Test
+	void cancelOnlyBeforeCooking() {
+		assertThat(CANCELLED.allowedFrom()).containsExactlyInAnyOrder(PENDING, IN_CART, PAYED, CONFIRMED);
+	}
+
+	@Test
+	void initialStatusesCannotBeEnteredAgain() {
+		assertThat(PENDING.allowedFrom()).isEmpty();
+		assertThat(IN_CART.allowedFrom()).isEmpty();
+	}
+
+	@Test
+	void terminalStatusesHaveNoWayOut() {
+		for (Order.OrderStatus status : Order.OrderStatus.values()) {
+			assertThat(status.allowedFrom()).doesNotContain(COMPLETED, CANCELLED);
+		}
+	}
+
+	@Test
+	void noStatusTransitionsToItself() {
+		for (Order.OrderStatus status : Order.OrderStatus.values()) {
+			assertThat(status.allowedFrom()).doesNotContain(status);
+		}
+	}
+
+	@Test
+	void unpaidOrdersCannotEnterKitchenSteps() {
+		assertThat(PREPARING.allowedFrom()).containsExactlyInAnyOrder(PAYED, CONFIRMED);
+		assertThat(READY.allowedFrom()).containsExactlyInAnyOrder(PAYED, CONFIRMED, PREPARING);
+	}
+
+	@Test
+	void kitchenStepsMoveForwardOnly() {
+		assertThat(PREPARING.allowedFrom()).doesNotContain(READY);
+		assertThat(READY.allowedFrom()).contains(PREPARING);
+	}
+}
@@ -0,0 +1,158 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Cart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartStoreTest {
+
+	private MongoTemplate mongoTemplate;
+	private BulkOperations operations;
+	private CartStore cartStore;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		operations = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Cart.class))).thenReturn(operations);
+		cartStore = new CartStore(mongoTemplate);
+		ReflectionTestUtils.setField(cartStore, "maxEntries", 100);
+		ReflectionTestUtils.setField(cartStore, "idleMinutes", 30L);
+	}
+
+	@Test
+	void flushAfterRemoveDeletesInsteadOfUpserting() {
+		cartStore.update("u1", "t1", cart -> cart("menu-1", 1000));
+		cartStore.flush();
+		verify(operations).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+
+		clearInvocations(operations);
+		cartStore.remove("u1", "t1");
+		cartStore.flush();
+
+		verify(operations).remove(any(Query.class));
+		verify(operations, never()).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+		assertThat(cartStore.get("u1", "t1")).isNull();
+	}
+
+	@Test
+	void failedFlushKeepsCartForNextFlush() {
+		cartStore.update("u1", "t1", cart -> cart("menu-1", 1000));
+		when(operations.execute()).thenThrow(new RuntimeException("down"));
+		cartStore.flush();
+
+		clearInvocations(operations);
+		doReturn(null).when(operations).execute();
+		cartStore.flush();
+
+		verify(operations).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+	}
+
+	@Test
+	void rejectsNewCartsWhenUnflushedCartsReachHardLimit() {
+		ReflectionTestUtils.setField(cartStore, "maxEntries", 2);
+		when(operations.execute()).thenThrow(new RuntimeException("down"));
+		for (int i = 0; i < 4; i++) {
+			cartStore.update("u" + i, "t1", cart -> cart("menu-1", 1000));
+		}
+		cartStore.flush();
+
+		assertThatThrownBy(() -> cartStore.update("u9", "t1", cart -> cart("menu-1", 1000)))
+				.isInstanceOf(RuntimeException.class);
+		// 이미 메모리에 있는 장바구니는 계속 사용 가능
+		assertThat(cartStore.get("u0", "t1")).isNotNull();
+	}
+
+	@Test
+	void cartCanBeTakenOnlyOnce() {
+		cartStore.update("u1", "t1", cart -> cart("menu-1", 1000));
+
+		CartStore.Claim first = cartStore.take("u1", "t1");
+		CartStore.Claim second = cartStore.take("u1", "t1");
+
+		assertThat(first).isNotNull();
+		assertThat(first.getCart().getItems()).hasSize(1);
+		assertThat(first.isPersisted()).isFalse();
+		assertThat(second).isNull();
+		assertThat(cartStore.get("u1", "t1")).isNull();
+	}
+
+	@Test
+	void flushSkipsClaimedCartAndDeletesItAfterComplete() {
+		cartStore.update("u1", "t1", cart -> cart("menu-1", 1000));
+		cartStore.flush();
+		clearInvocations(operations);
+
+		CartStore.Claim claim = cartStore.take("u1", "t1");
+		assertThat(claim.isPersisted()).isTrue();
+		cartStore.flush();
+		verify(operations, never()).remove(any(Query.class));
+		verify(operations, never()).execute();
+
+		cartStore.complete(claim);
+		cartStore.flush();
+		verify(operations).remove(any(Query.class));
+		assertThat(cartStore.take("u1", "t1")).isNull();
+	}
+
+	@Test
+	void restorePutsCartBackAndKeepsItemsAddedMeanwhile() {
+		cartStore.update("u1", "t1", cart -> cart("menu-1", 1000));
+		CartStore.Claim claim = cartStore.take("u1", "t1");
+		cartStore.update("u1", "t1", cart -> cart("menu-2", 500));
+
+		cartStore.restore(claim);
+
+		Cart restored = cartStore.get("u1", "t1");
+		assertThat(restored.getItems()).extracting(Cart.CartItem::getMenuId).containsExactly("menu-1", "menu-2");
+		assertThat(restored.getTotalPrice()).isEqualByComparingTo("1500");
+		assertThat(cartStore.take("u1", "t1")).isNotNull();
+	}
+
+	@Test
+	void lineIdsAssignedOnLoadAreFlushed() {
+		Cart stored = cart("menu-1", 1000);
+		stored.setId("cart-1");
+		stored.setItems(new ArrayList<>(List.of(stored.getItems().get(0).toBuilder().lineId(null).build())));
+		when(mongoTemplate.findOne(any(Query.class), eq(Cart.class))).thenReturn(stored);
+
+		assertThat(cartStore.get("u1", "t1").getItems().get(0).getLineId()).isNotNull();
+		cartStore.flush();
+
+		verify(operations).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+	}
+
+	private static Cart cart(String menuId, int price) {
+		return Cart.builder()
+				.userId("u1")
+				.tableId("t1")
+				.items(new ArrayList<>(List.of(Cart.CartItem.builder()
+						.lineId(menuId + "-line")
+						.menuId(menuId)
+						.quantity(1)
+						.price(BigDecimal.valueOf(price))
+						.build())))
+				.totalPrice(BigDecimal.valueOf(price))
+				.build();
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Cart;
+import com.example.easython.domain.Order;
+import com.example.easython.domain.Payment;
+import com.example.easython.domain.Table;
+import com.example.easython.dto.PaymentRequestDto;
+import com.example.easython.repository.TableRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.result.DeleteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CheckoutServiceTest {
+
+	private MongoTemplate mongoTemplate;
+	private CartStore cartStore;
+	private InventoryService.Reservation reservation;
+	private CheckoutService checkoutService;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		cartStore = new CartStore(mongoTemplate);
+		ReflectionTestUtils.setField(cartStore, "maxEntries", 100);
+		ReflectionTestUtils.setField(cartStore, "idleMinutes", 30L);
+
+		TableRepository tableRepository = mock(TableRepository.class);
+		when(tableRepository.findById("t1")).thenReturn(Optional.of(Table.builder()
+				.id("t1")
+				.tableNumber("A-1")
+				.restaurantName("가게 A")
+				.isAvailable(false)
+				.build()));
+		PickupNumberAllocator pickupNumberAllocator = mock(PickupNumberAllocator.class);
+		when(pickupNumberAllocator.allocate(anyString())).thenReturn(1);
+		InventoryService inventoryService = mock(InventoryService.class);
+		reservation = mock(InventoryService.Reservation.class);
+		when(inventoryService.reserve(anyMap())).thenReturn(reservation);
+
+		// carts에 저장되어 있던 장바구니
+		when(mongoTemplate.findOne(any(Query.class), eq(Cart.class))).thenReturn(storedCart());
+
+		checkoutService = new CheckoutService(tableRepository, cartStore, mock(OrderService.class),
+				pickupNumberAllocator, inventoryService, mock(AdmissionControlService.class), mongoTemplate,
+				mock(MongoClient.class));
+		ReflectionTestUtils.setField(checkoutService, "transactionEnabled", false);
+	}
+
+	@Test
+	void doubleSubmitPaysOnce() {
+		when(mongoTemplate.remove(any(Query.class), eq(Cart.class))).thenReturn(DeleteResult.acknowledged(1));
+
+		checkoutService.checkout("u1", request());
+
+		assertThatThrownBy(() -> checkoutService.checkout("u1", request()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("장바구니를 찾을 수 없습니다.");
+		verify(mongoTemplate, times(1)).insert(any(Order.class));
+		verify(mongoTemplate, times(1)).insert(any(Payment.class));
+	}
+
+	@Test
+	void abortsWhenStoredCartWasAlreadyDeleted() {
+		// 다른 인스턴스가 먼저 결제하여 carts 문서가 이미 없음
+		when(mongoTemplate.remove(any(Query.class), eq(Cart.class))).thenReturn(DeleteResult.acknowledged(0));
+
+		assertThatThrownBy(() -> checkoutService.checkout("u1", request()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("이미 결제된 장바구니입니다.");
+
+		verify(mongoTemplate, never()).insert(any(Order.class));
+		verify(mongoTemplate, never()).insert(any(Payment.class));
+		verify(reservation).release();
+		// 실패한 결제의 장바구니는 되돌림
+		assertThat(cartStore.get("u1", "t1").getItems()).hasSize(1);
+	}
+
+	@Test
+	void amountMismatchRestoresCart() {
+		PaymentRequestDto request = request();
+		request.setAmount(BigDecimal.ONE);
+
+		assertThatThrownBy(() -> checkoutService.checkout("u1", request)).isInstanceOf(RuntimeException.class);
+
+		verify(mongoTemplate, never()).remove(any(Query.class), eq(Cart.class));
+		assertThat(cartStore.get("u1", "t1")).isNotNull();
+	}
+
+	private static PaymentRequestDto request() {
+		return PaymentRequestDto.builder()
+				.tableId("t1")
+				.amount(BigDecimal.valueOf(9000))
+				.paymentMethod(Payment.PaymentMethod.CARD)
+				.build();
+	}
+
+	private static Cart storedCart() {
+		return Cart.builder()
+				.id("cart-1")
+				.userId("u1")
+				.tableId("t1")
+				.items(new ArrayList<>(List.of(Cart.CartItem.builder()
+						.lineId("line-1")
+						.menuId("menu-1")
+						.menuName("제육덮밥")
+						.quantity(1)
+						.price(BigDecimal.valueOf(9000))
+						.build())))
+				.totalPrice(BigDecimal.valueOf(9000))
+				.build();
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.IdempotencyRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+	private static final String ID = "order:u1:key-1";
+	private static final Map<String, String> REQUEST = Map.of("tableId", "t1");
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private MongoTemplate mongoTemplate;
+	private IdempotencyService idempotencyService;
+	private AtomicInteger calls;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		idempotencyService = new IdempotencyService(mongoTemplate, objectMapper);
+		calls = new AtomicInteger();
+	}
+
+	@Test
+	void replaysStoredResponseWithoutRunningAgain() throws Exception {
+		when(mongoTemplate.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+		when(mongoTemplate.findById(ID, IdempotencyRecord.class)).thenReturn(completed("\"first\""));
+
+		String result = execute(REQUEST);
+
+		assertThat(result).isEqualTo("first");
+		assertThat(calls).hasValue(0);
+	}
+
+	@Test
+	void sameKeyInProcessRunsOnce() {
+		assertThat(execute(REQUEST)).isEqualTo("result-1");
+		assertThat(execute(REQUEST)).isEqualTo("result-1");
+
+		assertThat(calls).hasValue(1);
+		verify(mongoTemplate, times(1)).insert(any(IdempotencyRecord.class));
+	}
+
+	@Test
+	void rejectsDifferentRequestWithSameKey() {
+		execute(REQUEST);
+
+		assertThatThrownBy(() -> execute(Map.of("tableId", "t2"))).isInstanceOf(RuntimeException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void waitsWhileAnotherInstanceHoldsLease() throws Exception {
+		when(mongoTemplate.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+		when(mongoTemplate.findById(ID, IdempotencyRecord.class))
+				.thenReturn(processing(LocalDateTime.now().plusMinutes(1)))
+				.thenReturn(processing(LocalDateTime.now().plusMinutes(1)))
+				.thenReturn(completed("\"first\""));
+
+		assertThat(execute(REQUEST)).isEqualTo("first");
+		assertThat(calls).hasValue(0);
+		verify(mongoTemplate, times(3)).findById(ID, IdempotencyRecord.class);
+	}
+
+	@Test
+	void reservesAgainWhenFirstRequestFailedWhileWaiting() {
+		when(mongoTemplate.insert(any(IdempotencyRecord.class)))
+				.thenThrow(new DuplicateKeyException("dup"))
+				.thenReturn(null);
+		when(mongoTemplate.findById(ID, IdempotencyRecord.class)).thenReturn(null);
+
+		assertThat(execute(REQUEST)).isEqualTo("result-1");
+		verify(mongoTemplate, times(2)).insert(any(IdempotencyRecord.class));
+	}
+
+	@Test
+	void takesOverExpiredLease() throws Exception {
+		when(mongoTemplate.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+		IdempotencyRecord expired = processing(LocalDateTime.now().minusMinutes(1));
+		when(mongoTemplate.findById(ID, IdempotencyRecord.class)).thenReturn(expired);
+		when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(IdempotencyRecord.class)))
+				.thenReturn(expired);
+
+		assertThat(execute(REQUEST)).isEqualTo("result-1");
+		verify(mongoTemplate).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(IdempotencyRecord.class));
+	}
+
+	@Test
+	void expiredLeaseTakenByAnotherRequestIsNotRunTwice() throws Exception {
+		when(mongoTemplate.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+		when(mongoTemplate.findById(ID, IdempotencyRecord.class))
+				.thenReturn(processing(LocalDateTime.now().minusMinutes(1)))
+				.thenReturn(processing(LocalDateTime.now().plusMinutes(2)))
+				.thenReturn(completed("\"other\""));
+
+		assertThat(execute(REQUEST)).isEqualTo("other");
+		assertThat(calls).hasValue(0);
+	}
+
+	@Test
+	void failedRequestReleasesReservationAndCanRetry() {
+		assertThatThrownBy(() -> idempotencyService.execute("order", "u1", "key-1", REQUEST, String.class, () -> {
+			throw new RuntimeException("결제 실패");
+		})).hasMessage("결제 실패");
+		verify(mongoTemplate).remove(any(Query.class), eq(IdempotencyRecord.class));
+
+		assertThat(execute(REQUEST)).isEqualTo("result-1");
+	}
+
+	private String execute(Object request) {
+		return idempotencyService.execute("order", "u1", "key-1", request, String.class,
+				() -> "result-" + calls.incrementAndGet());
+	}
+
+	private IdempotencyRecord processing(LocalDateTime leaseUntil) throws Exception {
+		return IdempotencyRecord.builder()
+				.id(ID)
+				.requestHash(hash(REQUEST))
+				.status(IdempotencyRecord.IdempotencyStatus.PROCESSING)
+				.leaseUntil(leaseUntil)
+				.build();
+	}
+
+	private IdempotencyRecord completed(String response) throws Exception {
+		return IdempotencyRecord.builder()
+				.id(ID)
+				.requestHash(hash(REQUEST))
+				.status(IdempotencyRecord.IdempotencyStatus.COMPLETED)
+				.response(response)
+				.build();
+	}
+
+	private String hash(Object request) throws Exception {
+		return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+	}
+}
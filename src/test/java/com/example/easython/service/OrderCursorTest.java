@@ -0,0 +1,77 @@
+package com.example.easython.service;
+
+import com.example.easython.dto.CursorPageDto;
+import com.example.easython.dto.OrderSummaryDto;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCursorTest {
+
+	private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2026, 10, 1, 12, 0, 0, 123_000_000);
+
+	@Test
+	void encodedCursorDecodesToSamePosition() {
+		OrderCursor cursor = OrderCursor.decode(OrderCursor.encode(ORDERED_AT, "order-3"));
+
+		assertThat(cursor).isEqualTo(new OrderCursor(ORDERED_AT, "order-3"));
+	}
+
+	@Test
+	void blankCursorIsFirstPage() {
+		assertThat(OrderCursor.decode(null)).isNull();
+		assertThat(OrderCursor.decode(" ")).isNull();
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor"))
+				.hasMessage("잘못된 페이지 커서입니다.");
+	}
+
+	@Test
+	void pageBreakInsideEqualOrderedAtContinuesById() {
+		// 같은 시각의 주문 3건을 2건씩 나누면 두 번째 페이지는 마지막 ID보다 작은 주문부터
+		List<OrderSummaryDto> rows = List.of(summary("order-3"), summary("order-2"), summary("order-1"));
+
+		CursorPageDto<OrderSummaryDto> page = OrderCursor.page(rows, 2);
+
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getContent()).extracting(OrderSummaryDto::getId).containsExactly("order-3", "order-2");
+		OrderCursor next = OrderCursor.decode(page.getNextCursor());
+		assertThat(next).isEqualTo(new OrderCursor(ORDERED_AT, "order-2"));
+
+		List<Document> or = next.after().getCriteriaObject().getList("$or", Document.class);
+		assertThat(or).hasSize(2);
+		assertThat(or.get(0).get("orderedAt", Document.class)).containsEntry("$lt", ORDERED_AT);
+		assertThat(or.get(1)).containsEntry("orderedAt", ORDERED_AT);
+		assertThat(or.get(1).get("_id", Document.class)).containsEntry("$lt", "order-2");
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		CursorPageDto<OrderSummaryDto> page = OrderCursor.page(List.of(summary("order-1")), 2);
+
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void mergeOrderMatchesMongoSort() {
+		OrderSummaryDto newer = OrderSummaryDto.builder().id("order-0").orderedAt(ORDERED_AT.plusSeconds(1)).build();
+		List<OrderSummaryDto> sorted = List.of(summary("order-1"), newer, summary("order-2")).stream()
+				.sorted(OrderCursor.ORDER)
+				.toList();
+
+		assertThat(sorted).extracting(OrderSummaryDto::getId).containsExactly("order-0", "order-2", "order-1");
+	}
+
+	private static OrderSummaryDto summary(String id) {
+		return OrderSummaryDto.builder().id(id).orderedAt(ORDERED_AT).build();
+	}
+}
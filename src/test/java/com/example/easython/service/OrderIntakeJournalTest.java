@@ -0,0 +1,190 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderIntakeJournalTest {
+
+	private static final int FIRST_RECORD = 16;
+
+	@TempDir
+	Path directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private MongoTemplate mongoTemplate;
+	private BulkOperations operations;
+	private Path file;
+	private OrderIntakeJournal journal;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		operations = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Order.class))).thenReturn(operations);
+		when(operations.insert(anyList())).thenReturn(operations);
+		file = directory.resolve("order-intake.journal");
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
+	@Test
+	void replaysRecordsAfterCheckpointOnRestart() throws Exception {
+		journal = open();
+		journal.append(order("o1"));
+		journal.append(order("o2"));
+		journal.close();
+
+		journal = open();
+
+		assertThat(journal.isPending("o1")).isTrue();
+		assertThat(journal.isPending("o2")).isTrue();
+		assertThat(journal.findPending("o2").orElseThrow().getTotalPrice()).isEqualByComparingTo("9000");
+	}
+
+	@Test
+	void stopsReplayAtTornRecordAndOverwritesIt() throws Exception {
+		journal = open();
+		journal.append(order("o1"));
+		journal.append(order("o2"));
+		journal.close();
+		journal = null;
+
+		// 두 번째 레코드의 본문 일부가 기록되지 않은 채 종료된 상황
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.seek(FIRST_RECORD);
+			int firstLength = raf.readInt();
+			long second = FIRST_RECORD + 8 + firstLength;
+			raf.seek(second + 8 + 5);
+			int value = raf.read();
+			raf.seek(second + 8 + 5);
+			raf.write(value ^ 0xFF);
+		}
+
+		journal = open();
+		assertThat(journal.isPending("o1")).isTrue();
+		assertThat(journal.isPending("o2")).isFalse();
+
+		// 손상된 레코드 자리부터 다시 기록하므로 이후 주문은 다음 재시작에도 재생됨
+		journal.append(order("o3"));
+		journal.close();
+		journal = open();
+		assertThat(journal.isPending("o1")).isTrue();
+		assertThat(journal.isPending("o2")).isFalse();
+		assertThat(journal.isPending("o3")).isTrue();
+	}
+
+	@Test
+	void drainReportsReplayedOrdersSeparately() throws Exception {
+		journal = open();
+		journal.append(order("o1"));
+		journal.close();
+
+		journal = open();
+		journal.append(order("o2"));
+		List<Order> inserted = new ArrayList<>();
+		List<Order> replayed = new ArrayList<>();
+		journal.drain(inserted::addAll, replayed::addAll);
+
+		assertThat(inserted).extracting(Order::getId).containsExactly("o1", "o2");
+		assertThat(replayed).extracting(Order::getId).containsExactly("o1");
+		assertThat(journal.isPending("o1")).isFalse();
+
+		// 체크포인트 이후 레코드가 없으므로 다시 열어도 재생하지 않음
+		journal.close();
+		journal = open();
+		assertThat(journal.isPending("o1")).isFalse();
+		assertThat(journal.isPending("o2")).isFalse();
+	}
+
+	@Test
+	void movesRejectedOrderToDeadLetterAndAdvancesCheckpoint() throws Exception {
+		BulkOperationException rejected = mock(BulkOperationException.class);
+		when(rejected.getErrors()).thenReturn(List.of(
+				new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1)));
+		when(operations.execute()).thenThrow(rejected);
+		journal = open();
+		journal.append(order("o1"));
+		journal.append(order("o2"));
+		journal.append(order("o3"));
+
+		List<Order> inserted = new ArrayList<>();
+		journal.drain(inserted::addAll, orders -> { });
+
+		assertThat(inserted).extracting(Order::getId).containsExactly("o1", "o3");
+		ArgumentCaptor<Order> deadLetter = ArgumentCaptor.forClass(Order.class);
+		verify(mongoTemplate).save(deadLetter.capture(), eq(OrderIntakeJournal.DEAD_LETTER_COLLECTION));
+		assertThat(deadLetter.getValue().getId()).isEqualTo("o2");
+
+		// 건너뛴 주문 때문에 체크포인트가 멈추지 않음
+		journal.close();
+		journal = open();
+		assertThat(journal.isPending("o2")).isFalse();
+		assertThat(journal.isPending("o3")).isFalse();
+	}
+
+	@Test
+	void failingCallbackDoesNotKeepOrdersPending() {
+		journal = open();
+		journal.append(order("o1"));
+
+		journal.drain(orders -> {
+			throw new IllegalStateException("history down");
+		}, orders -> { });
+
+		assertThat(journal.isPending("o1")).isFalse();
+	}
+
+	private OrderIntakeJournal open() {
+		OrderIntakeJournal opened = new OrderIntakeJournal(mongoTemplate, objectMapper);
+		ReflectionTestUtils.setField(opened, "enabled", true);
+		ReflectionTestUtils.setField(opened, "path", file.toString());
+		ReflectionTestUtils.setField(opened, "sizeMb", 1);
+		opened.open();
+		return opened;
+	}
+
+	private static Order order(String id) {
+		LocalDateTime now = LocalDateTime.now();
+		return Order.builder()
+				.id(id)
+				.userId("u1")
+				.restaurantName("가게 A")
+				.totalPrice(new BigDecimal("9000"))
+				.status(Order.OrderStatus.PENDING)
+				.orderedAt(now)
+				.createdAt(now)
+				.updatedAt(now)
+				.build();
+	}
+}
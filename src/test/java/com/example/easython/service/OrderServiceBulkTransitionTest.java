@@ -0,0 +1,152 @@
+package com.example.easython.service;
+
+import com.example.easython.domain.Order;
+import com.example.easython.dto.BulkStatusResultDto;
+import com.example.easython.dto.OrderDto;
+import com.example.easython.repository.NotificationRepository;
+import com.example.easython.repository.OrderRepository;
+import com.example.easython.repository.TableRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceBulkTransitionTest {
+
+	@Mock
+	private OrderRepository orderRepository;
+	@Mock
+	private TableRepository tableRepository;
+	@Mock
+	private NotificationRepository notificationRepository;
+	@Mock
+	private CartService cartService;
+	@Mock
+	private MenuCatalog menuCatalog;
+	@Mock
+	private PickupNumberAllocator pickupNumberAllocator;
+	@Mock
+	private AdmissionControlService admissionControlService;
+	@Mock
+	private KitchenQueueService kitchenQueueService;
+	@Mock
+	private OrderArchiveService orderArchiveService;
+	@Mock
+	private OrderIntakeJournal orderIntakeJournal;
+	@Mock
+	private MongoTemplate mongoTemplate;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private OrderService orderService;
+
+	@Test
+	void rejectsNonKitchenTarget() {
+		assertThatThrownBy(() -> orderService.bulkTransition(List.of("o1"), Order.OrderStatus.CANCELLED))
+				.isInstanceOf(RuntimeException.class);
+		assertThatThrownBy(() -> orderService.bulkTransition(List.of("o1"), Order.OrderStatus.PAYED))
+				.isInstanceOf(RuntimeException.class);
+		verifyNoInteractions(mongoTemplate, kitchenQueueService, eventPublisher);
+	}
+
+	@Test
+	void rejectsTooManyOrders() {
+		List<String> ids = IntStream.range(0, 101).mapToObj(i -> "o" + i).toList();
+
+		assertThatThrownBy(() -> orderService.bulkTransition(ids, Order.OrderStatus.READY))
+				.isInstanceOf(RuntimeException.class);
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	void updatesOnlyOrdersInAllowedStatus() {
+		when(kitchenQueueService.findActive("o1")).thenReturn(order("o1", Order.OrderStatus.PAYED));
+		when(kitchenQueueService.findActive("o2")).thenReturn(order("o2", Order.OrderStatus.READY));
+		when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Order.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		BulkStatusResultDto result = orderService.bulkTransition(List.of("o1", "o2", "o1"),
+				Order.OrderStatus.PREPARING);
+
+		assertThat(result.getUpdatedOrders()).extracting(OrderDto::getId).containsExactly("o1");
+		assertThat(result.getUpdatedOrders()).extracting(OrderDto::getStatus)
+				.containsExactly(Order.OrderStatus.PREPARING);
+		assertThat(result.getFailedOrderIds()).containsExactly("o2");
+		// 대기열에 모두 있으면 주문을 다시 읽지 않음, 조리 시작은 알림 대상이 아님
+		verify(mongoTemplate, never()).find(any(Query.class), eq(Order.class));
+		verify(mongoTemplate, never()).insertAll(anyCollection());
+		verify(eventPublisher, times(1)).publishEvent(any(OrderChangedEvent.class));
+	}
+
+	@Test
+	void reportsOnlyOrdersTaggedByThisTransitionWhenAnotherTerminalWon() {
+		when(kitchenQueueService.findActive("o1")).thenReturn(order("o1", Order.OrderStatus.PREPARING));
+		when(kitchenQueueService.findActive("o2")).thenReturn(order("o2", Order.OrderStatus.PREPARING));
+		when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Order.class)))
+				.thenReturn(UpdateResult.acknowledged(2, 1L, null));
+		when(mongoTemplate.find(any(Query.class), eq(Order.class)))
+				.thenReturn(List.of(Order.builder().id("o2").build()));
+
+		BulkStatusResultDto result = orderService.bulkTransition(List.of("o1", "o2"), Order.OrderStatus.READY);
+
+		assertThat(result.getUpdatedOrders()).extracting(OrderDto::getId).containsExactly("o2");
+		assertThat(result.getUpdatedOrders().get(0).getReadyAt()).isNotNull();
+		assertThat(result.getFailedOrderIds()).containsExactly("o1");
+
+		ArgumentCaptor<Query> modified = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate).find(modified.capture(), eq(Order.class));
+		assertThat(modified.getValue().getQueryObject()).containsKey("lastTransitionId");
+		assertThat(modified.getValue().getQueryObject()).doesNotContainKey("updatedAt");
+
+		ArgumentCaptor<Collection<?>> notifications = ArgumentCaptor.forClass(Collection.class);
+		verify(mongoTemplate).insertAll(notifications.capture());
+		assertThat(notifications.getValue()).hasSize(1);
+	}
+
+	@Test
+	void drainsJournalBeforeReadingPendingOrders() {
+		when(orderIntakeJournal.isPending("o1")).thenReturn(true);
+		when(mongoTemplate.find(any(Query.class), eq(Order.class)))
+				.thenReturn(List.of(Order.builder().id("o1").status(Order.OrderStatus.PAYED).build()));
+		when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Order.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		BulkStatusResultDto result = orderService.bulkTransition(List.of("o1"), Order.OrderStatus.PREPARING);
+
+		verify(orderIntakeJournal).drain(any(), any());
+		assertThat(result.getUpdatedOrders()).extracting(OrderDto::getId).containsExactly("o1");
+	}
+
+	private static OrderDto order(String id, Order.OrderStatus status) {
+		return OrderDto.builder()
+				.id(id)
+				.userId("user-" + id)
+				.restaurantName("가게 A")
+				.status(status)
+				.build();
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.easython.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+	@Test
+	void allowsBurstUpToCapacity() {
+		RateLimiter rateLimiter = rateLimiter(3, 1);
+
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isPositive();
+	}
+
+	@Test
+	void retryAfterIsTimeUntilNextToken() {
+		// 분당 1개 충전이면 빈 버킷의 다음 토큰까지 60초
+		assertThat(exhaust(rateLimiter(1, 1))).isEqualTo(60);
+		// 분당 30개 충전이면 2초
+		assertThat(exhaust(rateLimiter(1, 30))).isEqualTo(2);
+		// 1초보다 짧아도 최소 1초 (분당 600개면 0.1초)
+		assertThat(exhaust(rateLimiter(1, 600))).isEqualTo(1);
+	}
+
+	@Test
+	void refillsOverTime() throws InterruptedException {
+		// 분당 60만 개(밀리초당 10개) 충전
+		RateLimiter rateLimiter = rateLimiter(1, 600_000);
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+
+		Thread.sleep(5);
+
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+	}
+
+	@Test
+	void bucketsAreSeparatePerUserAndEndpoint() {
+		RateLimiter rateLimiter = rateLimiter(1, 1);
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u2")).isZero();
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.CHAT, "u1")).isZero();
+		assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isPositive();
+	}
+
+	@Test
+	void disabledLimiterAllowsEverything() {
+		RateLimiter rateLimiter = rateLimiter(1, 1);
+		ReflectionTestUtils.setField(rateLimiter, "enabled", false);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1")).isZero();
+		}
+	}
+
+	private static long exhaust(RateLimiter rateLimiter) {
+		rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1");
+		return rateLimiter.tryAcquire(RateLimiter.Endpoint.ORDER, "u1");
+	}
+
+	private static RateLimiter rateLimiter(int capacity, int refillPerMinute) {
+		RateLimiter rateLimiter = new RateLimiter();
+		ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+		ReflectionTestUtils.setField(rateLimiter, "chatCapacity", capacity);
+		ReflectionTestUtils.setField(rateLimiter, "chatRefillPerMinute", refillPerMinute);
+		ReflectionTestUtils.setField(rateLimiter, "orderCapacity", capacity);
+		ReflectionTestUtils.setField(rateLimiter, "orderRefillPerMinute", refillPerMinute);
+		ReflectionTestUtils.setField(rateLimiter, "maxBuckets", 1000);
+		rateLimiter.init();
+		return rateLimiter;
+	}
+}